@@ -0,0 +1,34 @@
+package com.navi.config;
+
+import com.navi.service.SeasonReadModel;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조회 API 응답 캐시 설정 (Caffeine, application.yml 의 spring.cache 참고)
+ * 키에 현재 스냅샷 버전을 넣어, 갱신 직전 스냅샷으로 만든 값이 새 버전 조회에 쓰이지 않도록 함
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String HOME = "home";
+    public static final String MATCHES = "matches";
+    public static final String GOAL_LOGS = "goalLogs";
+    public static final String ATTENDANCE_LOGS = "attendanceLogs";
+    public static final String PLAYER_DETAIL = "playerDetail";
+
+    /** (스냅샷 버전, 메서드 인자...) 로 캐시 키 생성 */
+    @Bean
+    public KeyGenerator snapshotKeyGenerator(SeasonReadModel readModel) {
+        return (target, method, params) -> {
+            Object[] key = new Object[params.length + 1];
+            key[0] = readModel.current().getVersion();
+            System.arraycopy(params, 0, key, 1, params.length);
+            return new SimpleKey(key);
+        };
+    }
+}
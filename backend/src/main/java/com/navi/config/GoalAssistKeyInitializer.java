@@ -0,0 +1,62 @@
+package com.navi.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 골/도움 (match_id, player_id) 유니크 키 보정
+ * - 키 도입 전에는 같은 경기·선수 행이 여러 개 있을 수 있어 스키마 갱신(ddl-auto=update)이 키 생성을 조용히 건너뜀
+ * - 기동 시(요청을 받기 전) 중복 행을 가장 작은 ID 행 하나로 합치고(골·도움 합계, 선수별 누적은 그대로) 키를 추가
+ * - 키가 이미 있으면 추가가 실패하고 넘어가므로 여러 번 실행해도 안전
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class GoalAssistKeyInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 중복 행: 경기·선수, 남길 행 ID, 골·도움 합계 */
+    private record Duplicate(long matchId, long playerId, long keepId, int goals, int assists) {
+    }
+
+    @PostConstruct
+    public void ensureUniqueKey() {
+        Integer merged = new TransactionTemplate(transactionManager).execute(status -> mergeDuplicates());
+        if (merged != null && merged > 0) {
+            log.info("골/도움 중복 행 {}건을 경기·선수당 한 행으로 합침", merged);
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE match_goal_assist ADD CONSTRAINT uk_match_goal_assist_match_player "
+                    + "UNIQUE (match_id, player_id)");
+            log.info("골/도움 (match_id, player_id) 유니크 키 추가");
+        } catch (DataAccessException e) {
+            log.debug("골/도움 유니크 키 이미 있음, 추가 건너뜀");
+        }
+    }
+
+    private int mergeDuplicates() {
+        List<Duplicate> duplicates = jdbcTemplate.query(
+                "SELECT match_id, player_id, MIN(id), SUM(goals), SUM(assists) FROM match_goal_assist "
+                        + "GROUP BY match_id, player_id HAVING COUNT(*) > 1",
+                (rs, i) -> new Duplicate(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getInt(5)));
+        for (Duplicate d : duplicates) {
+            jdbcTemplate.update("DELETE FROM match_goal_assist WHERE match_id = ? AND player_id = ? AND id <> ?",
+                    d.matchId(), d.playerId(), d.keepId());
+            jdbcTemplate.update("UPDATE match_goal_assist SET goals = ?, assists = ? WHERE id = ?",
+                    d.goals(), d.assists(), d.keepId());
+        }
+        return duplicates.size();
+    }
+}
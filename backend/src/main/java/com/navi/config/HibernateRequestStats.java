@@ -0,0 +1,56 @@
+package com.navi.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드 단위 Hibernate 작업 수: SQL 문장 수, 엔티티 로드 수, 컬렉션 초기화 수
+ * - Hibernate 통계(hibernate.generate_statistics)는 전체 합계라 요청별로 나눌 수 없어 스레드 로컬로 따로 셈
+ * - 누적값이므로 구간 전후 값의 차로 사용 (RequestMetricsFilter 는 요청 단위, JFR 이벤트는 서비스 구간 단위)
+ */
+public final class HibernateRequestStats {
+
+    public static final int QUERIES = 0;
+    public static final int ENTITY_LOADS = 1;
+    public static final int COLLECTION_FETCHES = 2;
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[3]);
+
+    /** SQL 문장마다 호출됨 (MetricsConfig 에서 hibernate.session_factory.statement_inspector 로 등록) */
+    public static final StatementInspector STATEMENT_INSPECTOR = sql -> {
+        increment(QUERIES);
+        return sql;
+    };
+
+    private HibernateRequestStats() {
+    }
+
+    /** 엔티티 로드·컬렉션 초기화 이벤트 리스너 등록 */
+    public static void install(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD,
+                (PostLoadEventListener) event -> increment(ENTITY_LOADS));
+        registry.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> increment(COLLECTION_FETCHES));
+    }
+
+    /** 현재 스레드에서 지금까지 센 값 */
+    public static long count(int kind) {
+        return COUNTS.get()[kind];
+    }
+
+    /** 현재 스레드의 세 값 복사본 */
+    public static long[] snapshot() {
+        return COUNTS.get().clone();
+    }
+
+    private static void increment(int kind) {
+        COUNTS.get()[kind]++;
+    }
+}
@@ -0,0 +1,50 @@
+package com.navi.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경기·출석·골/도움 ID 시퀀스 테이블 보정
+ * - 예전 AUTO_INCREMENT 로 쌓인 행보다 시퀀스 값이 뒤처져 있으면 새 ID가 겹치므로,
+ *   기동 시(스키마 갱신 직후, 요청을 받기 전) next_val 을 max(id) + 할당 크기 이후로 당겨 둠
+ * - 값을 올리기만 하므로 여러 번 실행해도 안전
+ * - 시퀀스 테이블이 없는 DB(실제 시퀀스를 쓰는 H2 등 성능 측정용 DB)는 건너뜀
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    /** 엔티티 @SequenceGenerator 의 allocationSize 와 같아야 함 */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        align("game", "game_seq");
+        align("match_attendance", "match_attendance_seq");
+        align("match_goal_assist", "match_goal_assist_seq");
+    }
+
+    private void align(String table, String sequenceTable) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long floor = (maxId != null ? maxId : 0) + ALLOCATION_SIZE + 1;
+        int updated;
+        try {
+            updated = jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = ? WHERE next_val < ?", floor, floor);
+        } catch (BadSqlGrammarException e) {
+            log.debug("{} 시퀀스 테이블 없음, 보정 건너뜀", sequenceTable);
+            return;
+        }
+        if (updated > 0) {
+            log.info("{} 시퀀스를 {} 로 맞춤 (기존 최대 ID {})", sequenceTable, floor, maxId);
+        }
+    }
+}
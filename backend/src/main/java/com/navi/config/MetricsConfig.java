@@ -0,0 +1,28 @@
+package com.navi.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 (Actuator + Prometheus, 노출 경로는 application.yml 의 management 참고)
+ * - @Timed 가 붙은 서비스(NaviService 공개 메서드)를 navi.service 타이머로 기록
+ * - 요청별 SQL 문장 수를 세도록 Hibernate StatementInspector 등록 (RequestMetricsFilter)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                HibernateRequestStats.STATEMENT_INSPECTOR);
+    }
+}
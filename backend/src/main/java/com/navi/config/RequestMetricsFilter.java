@@ -0,0 +1,65 @@
+package com.navi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * API 요청마다 실행된 SQL 문장 수·엔티티 로드 수·컬렉션 초기화 수를 요청별 분포로 기록
+ * (navi.request.queries / navi.request.entity.loads / navi.request.collection.fetches, 태그: method, uri 패턴)
+ * - 응답 시간은 Spring 기본 http.server.requests 타이머 (application.yml 에서 백분위 설정)
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void installListeners() {
+        HibernateRequestStats.install(entityManagerFactory);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long[] before = HibernateRequestStats.snapshot();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long[] counts = HibernateRequestStats.snapshot();
+            for (int i = 0; i < counts.length; i++) counts[i] -= before[i];
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            record("navi.request.queries", request.getMethod(), uri, counts[HibernateRequestStats.QUERIES]);
+            record("navi.request.entity.loads", request.getMethod(), uri, counts[HibernateRequestStats.ENTITY_LOADS]);
+            record("navi.request.collection.fetches", request.getMethod(), uri,
+                    counts[HibernateRequestStats.COLLECTION_FETCHES]);
+        }
+    }
+
+    private void record(String name, String method, String uri, long value) {
+        DistributionSummary.builder(name)
+                .tags("method", method, "uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(value);
+    }
+}
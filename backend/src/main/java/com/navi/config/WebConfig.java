@@ -1,5 +1,6 @@
 package com.navi.config;
 
+import com.navi.controller.NaviController;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -16,6 +17,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(NaviController.NEXT_CURSOR_HEADER)
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -0,0 +1,40 @@
+package com.navi.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 동시 수정 충돌을 409 로 응답 (본문은 관리 화면에 그대로 보여줄 안내 문구)
+ * - 경기 버전(@Version)이 폼을 연 뒤 바뀐 경우
+ * - 같은 행을 동시에 만들다 유니크 키에 걸린 경우
+ */
+@Slf4j
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> staleVersion(ObjectOptimisticLockingFailureException e) {
+        log.debug("버전 충돌: {}", e.getMessage());
+        return conflict("다른 곳에서 먼저 수정된 경기입니다. 새로고침 후 다시 시도하세요.");
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> duplicateRow(DataIntegrityViolationException e) {
+        log.warn("동시 저장 충돌: {}", e.getMostSpecificCause().getMessage());
+        return conflict("다른 요청과 동시에 저장되어 반영하지 못했습니다. 새로고침 후 다시 시도하세요.");
+    }
+
+    private static ResponseEntity<String> conflict(String message) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(message);
+    }
+}
@@ -1,22 +1,55 @@
 package com.navi.controller;
 
 import com.navi.dto.*;
+import com.navi.service.ChangeLogService;
 import com.navi.service.CsvSeedService;
+import com.navi.service.DataVersion;
+import com.navi.service.FlightRecorderService;
+import com.navi.service.LiveStreamService;
+import com.navi.service.LogPage;
 import com.navi.service.NaviService;
+import com.navi.service.PlayerStatsService;
+import com.navi.service.ReadCacheService;
+import com.navi.service.SeedReport;
+import com.navi.service.SyncReport;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * NAVI 시즌 전적 API
- * - GET /api/home : 홈 (시즌전적, 득점/도움/출석 순위)
+ * - GET /api/home : 홈 (시즌전적, 득점/도움/출석 순위, limit 을 주면 순위별 상위 limit 명 + 동점자)
  * - GET /api/matches : 전체 경기
  * - GET /api/goals : 골 로그
  * - GET /api/assists : 도움 로그
  * - GET /api/attendance : 출석 로그
+ * - GET /api/seasons : 시즌 목록 (시즌별 전적)
+ * - PATCH /api/matches/{id}/attendance/{playerId}, /goal-assist/{playerId} : 경기 중 선수 한 명 출석·골/도움 변경
+ * - GET /api/stream : 실시간 변경 스트림 (SSE: 경기 등록·수정·삭제, 출석, 골/도움, 순위 변경분)
+ * - GET /api/changes?since= : since 버전 이후 바뀐 경기·출석·골/도움·선수·다음 경기만 (로컬 사본 증분 동기화)
+ * 조회 API(/home, /matches, /goals, /assists, /attendance, /player/{name})는 season(연도)을 주면 그 시즌 기록만으로 응답
+ * 목록 API(/matches, /goals, /assists, /attendance)는 from/to(yyyy-MM-dd), cursor, limit 를 주면 기간 필터 + 키셋 페이지로 응답
+ * (다음 페이지 커서는 X-Next-Cursor 헤더, 파라미터가 없으면 기존처럼 전체 목록)
+ * 조회 API는 전체 데이터 버전으로 ETag/Last-Modified 를 내려주고, 변경이 없으면 304 로 응답
  */
 @RestController
 @RequestMapping("/api")
@@ -24,46 +57,128 @@ import java.util.Map;
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class NaviController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String JFR_TOKEN_HEADER = "X-Jfr-Token";
+
     private final NaviService naviService;
     private final CsvSeedService csvSeedService;
+    private final PlayerStatsService playerStatsService;
+    private final ReadCacheService readCacheService;
+    private final DataVersion dataVersion;
+    private final FlightRecorderService flightRecorderService;
+    private final LiveStreamService liveStreamService;
+    private final ChangeLogService changeLogService;
 
     @GetMapping("/home")
-    public ResponseEntity<HomeResponseDto> getHome() {
-        return ResponseEntity.ok(naviService.getHome());
+    public ResponseEntity<HomeResponseDto> getHome(
+            @RequestParam(value = "season", required = false) Integer season,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        return conditional(request, () -> ResponseEntity.ok(naviService.getHome(season, limit)));
+    }
+
+    /**
+     * 실시간 변경 스트림 (text/event-stream). 이벤트: match-created, match-updated, match-deleted, season-deleted,
+     * attendance, goal-assist, ranking(전체 시즌 순위에서 순위·수치가 바뀐 선수만). 구독자가 정원을 넘으면 503
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = liveStreamService.subscribe();
+        if (emitter == null) return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no") // 프록시(nginx 등) 버퍼링 끔
+                .body(emitter);
+    }
+
+    /**
+     * since 버전 이후 바뀐 행 (since 없이 부르면 reset 과 현재 버전만 돌려주므로, 전체 목록을 받기 전에 먼저 호출해 버전을 잡아 둠).
+     * reset 이면 전체 목록을 다시 받고 응답의 version 부터 이어 받음
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangesDto> getChanges(@RequestParam(value = "since", required = false) Long since) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(changeLogService.changesSince(since));
+    }
+
+    /** 기록이 있는 시즌 목록 (최근 시즌부터, 시즌별 전적 포함) */
+    @GetMapping("/seasons")
+    public ResponseEntity<List<SeasonStatsDto>> getSeasons(WebRequest request) {
+        return conditional(request, () -> ResponseEntity.ok(naviService.getSeasons()));
     }
 
     @GetMapping("/matches")
-    public ResponseEntity<List<MatchDto>> getMatches() {
-        return ResponseEntity.ok(naviService.getAllMatches());
+    public ResponseEntity<List<MatchDto>> getMatches(
+            @RequestParam(value = "season", required = false) Integer season,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        if (unpaged(from, to, cursor, limit)) {
+            return conditional(request, () -> ResponseEntity.ok(naviService.getAllMatches(season)));
+        }
+        return conditional(request, () -> paged(naviService.getMatches(season, from, to, cursor, limit)));
     }
 
     @GetMapping("/goals")
-    public ResponseEntity<List<GoalAssistLogDto>> getGoalLogs() {
-        return ResponseEntity.ok(naviService.getGoalLogs());
+    public ResponseEntity<List<GoalAssistLogDto>> getGoalLogs(
+            @RequestParam(value = "season", required = false) Integer season,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        if (unpaged(from, to, cursor, limit)) {
+            return conditional(request, () -> ResponseEntity.ok(naviService.getGoalLogs(season)));
+        }
+        return conditional(request, () -> paged(naviService.getGoalLogs(season, from, to, cursor, limit)));
     }
 
     @GetMapping("/assists")
-    public ResponseEntity<List<GoalAssistLogDto>> getAssistLogs() {
-        return ResponseEntity.ok(naviService.getAssistLogs());
+    public ResponseEntity<List<GoalAssistLogDto>> getAssistLogs(
+            @RequestParam(value = "season", required = false) Integer season,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        if (unpaged(from, to, cursor, limit)) {
+            return conditional(request, () -> ResponseEntity.ok(naviService.getAssistLogs(season)));
+        }
+        return conditional(request, () -> paged(naviService.getGoalLogs(season, from, to, cursor, limit)));
     }
 
     @GetMapping("/attendance")
-    public ResponseEntity<List<AttendanceLogDto>> getAttendanceLogs() {
-        return ResponseEntity.ok(naviService.getAttendanceLogs());
+    public ResponseEntity<List<AttendanceLogDto>> getAttendanceLogs(
+            @RequestParam(value = "season", required = false) Integer season,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        if (unpaged(from, to, cursor, limit)) {
+            return conditional(request, () -> ResponseEntity.ok(naviService.getAttendanceLogs(season)));
+        }
+        return conditional(request, () -> paged(naviService.getAttendanceLogs(season, from, to, cursor, limit)));
     }
 
     /** 선수 상세 정보 (출석, 골, 도움, 전화번호 + 참가한 경기 목록) */
     @GetMapping("/player/{name}")
-    public ResponseEntity<PlayerDetailDto> getPlayerDetail(@PathVariable String name) {
-        return naviService.getPlayerDetail(name)
+    public ResponseEntity<PlayerDetailDto> getPlayerDetail(
+            @PathVariable String name,
+            @RequestParam(value = "season", required = false) Integer season,
+            WebRequest request) {
+        return conditional(request, () -> naviService.getPlayerDetail(name, season)
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     /** 관리자용: 전체 선수 목록 (전화번호 수정용) */
     @GetMapping("/players")
-    public ResponseEntity<List<PlayerListItemDto>> getPlayers() {
-        return ResponseEntity.ok(naviService.getPlayers());
+    public ResponseEntity<List<PlayerListItemDto>> getPlayers(WebRequest request) {
+        return conditional(request, () -> ResponseEntity.ok(naviService.getPlayers()));
     }
 
     /** 선수 전화번호 수정 */
@@ -82,11 +197,11 @@ public class NaviController {
         return ResponseEntity.ok(naviService.createMatch(body));
     }
 
-    /** 경기 상세 (수정 폼용) */
+    /** 경기 상세 (수정 폼용: DB 에서 바로 읽으므로 전체 데이터 버전 ETag 를 쓰지 않고 매번 새로 받음) */
     @GetMapping("/matches/{id}")
     public ResponseEntity<MatchDetailDto> getMatchDetail(@PathVariable Long id) {
         return naviService.getMatchDetail(id)
-                .map(ResponseEntity::ok)
+                .map(detail -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(detail))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -96,6 +211,24 @@ public class NaviController {
         return ResponseEntity.ok(naviService.updateMatch(id, body));
     }
 
+    /** 경기 중 선수 한 명 출석 변경 (본문 attended 생략 시 토글) */
+    @PatchMapping("/matches/{id}/attendance/{playerId}")
+    public ResponseEntity<MatchAttendanceDto> updateAttendance(
+            @PathVariable Long id,
+            @PathVariable Long playerId,
+            @RequestBody(required = false) UpdateAttendanceRequest body) {
+        return ResponseEntity.ok(naviService.updateAttendance(id, playerId, body != null ? body.getAttended() : null));
+    }
+
+    /** 경기 중 선수 한 명 골/도움 증감 (예: {"goals": 1, "assists": 0}) */
+    @PatchMapping("/matches/{id}/goal-assist/{playerId}")
+    public ResponseEntity<GoalAssistRecordItemDto> addGoalAssist(
+            @PathVariable Long id,
+            @PathVariable Long playerId,
+            @RequestBody AddGoalAssistRequest body) {
+        return ResponseEntity.ok(naviService.addGoalAssist(id, playerId, body.getGoals(), body.getAssists()));
+    }
+
     /** 경기 삭제 */
     @DeleteMapping("/matches/{id}")
     public ResponseEntity<Void> deleteMatch(@PathVariable Long id) {
@@ -107,8 +240,8 @@ public class NaviController {
 
     /** 관리자용: 다음 경기 목록 */
     @GetMapping("/next-matches")
-    public ResponseEntity<List<NextMatchDto>> getNextMatches() {
-        return ResponseEntity.ok(naviService.getNextMatches());
+    public ResponseEntity<List<NextMatchDto>> getNextMatches(WebRequest request) {
+        return conditional(request, () -> ResponseEntity.ok(naviService.getNextMatches()));
     }
 
     /** 다음 경기 등록 */
@@ -130,19 +263,180 @@ public class NaviController {
         return ResponseEntity.noContent().build();
     }
 
-    /** CSV 데이터를 DB에 넣기. force=true 면 기존 시즌/경기 데이터 삭제 후 CSV로 다시 시드 */
+    /**
+     * CSV 데이터를 DB에 넣기 (넣은 행 수·소요 시간·초당 행 수 포함).
+     * force=true 면 기존 데이터를 지우지 않고 CSV와 달라진 경기만 추가·변경·삭제 (관리자가 등록한 경기와 같은 행의 수정은 유지)
+     */
     @GetMapping("/admin/seed-csv")
     public ResponseEntity<Map<String, Object>> seedFromCsv(
             @RequestParam(value = "force", required = false, defaultValue = "false") boolean force) {
-        boolean done = force ? csvSeedService.seedForce() : csvSeedService.seedIfEmpty();
+        if (force) return ResponseEntity.ok(syncFromCsv());
+        SeedReport report = csvSeedService.seedIfEmpty();
+        boolean done = report.done();
         String message = done
                 ? "CSV 데이터를 DB에 넣었습니다. 화면을 새로고침해 보세요."
-                : (force
-                        ? "CSV 시드 실패. resources/data/ 에 goal_assist.csv 등이 있는지 확인하세요."
-                        : "이미 데이터가 있어 시드하지 않았습니다. CSV로 덮어쓰려면 ?force=true 로 호출하세요.");
+                : "이미 데이터가 있어 시드하지 않았습니다. CSV 변경분을 반영하려면 ?force=true 로 호출하세요.";
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("done", done);
+        body.put("message", message);
+        if (done) { // 새로 넣은 행 수와 소요 시간
+            body.put("rows", report.rows());
+            body.put("players", report.players());
+            body.put("matches", report.matches());
+            body.put("attendances", report.attendances());
+            body.put("goalAssists", report.goalAssists());
+            body.put("elapsedMs", report.elapsedMs());
+            body.put("rowsPerSecond", report.rowsPerSecond());
+        }
+        return ResponseEntity.ok(body);
+    }
+
+    private Map<String, Object> syncFromCsv() {
+        SyncReport report = csvSeedService.syncFromCsv();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("done", report.done());
+        String message = !report.done()
+                ? "CSV 동기화 실패. resources/data/ 에 goal_assist.csv 등이 있는지 확인하세요."
+                : report.conflicts().isEmpty()
+                ? "CSV 변경분을 반영했습니다. 화면을 새로고침해 보세요."
+                : "CSV 변경분을 반영했습니다. 직접 등록된 경기와 겹치는 CSV 행 " + report.conflicts().size()
+                        + "개는 반영하지 않았습니다 (conflicts 의 경기를 확인하세요).";
+        body.put("message", message);
+        if (report.done()) {
+            body.put("players", report.players());
+            body.put("inserted", report.inserted());
+            body.put("updated", report.updated());
+            body.put("unchanged", report.unchanged());
+            body.put("deleted", report.deleted());
+            body.put("conflicts", report.conflicts());
+            body.put("elapsedMs", report.elapsedMs());
+        }
+        return body;
+    }
+
+    /** 선수별 시즌 누적(순위 집계용)을 출석·골/도움 기록에서 다시 계산 (집계 불일치 복구용) */
+    @PostMapping("/admin/rebuild-player-stats")
+    public ResponseEntity<Map<String, Object>> rebuildPlayerStats() {
+        int rows = playerStatsService.rebuild();
+        return ResponseEntity.ok(Map.of(
+                "done", true,
+                "rows", rows
+        ));
+    }
+
+    /** 한 시즌 기록 전체 삭제 (경기·출석·골/도움·선수별 누적·시즌 전적, 선수는 유지) */
+    @DeleteMapping("/admin/seasons/{seasonYear}")
+    public ResponseEntity<Map<String, Object>> deleteSeason(@PathVariable int seasonYear) {
+        int matches = naviService.deleteSeason(seasonYear);
         return ResponseEntity.ok(Map.of(
-                "done", done,
-                "message", message
+                "seasonYear", seasonYear,
+                "deletedMatches", matches
         ));
     }
+
+    /** 조회 API 응답 캐시 통계 (캐시별 적중/미스/축출 수, 쓰기로 인한 전체 비움 횟수) */
+    @GetMapping("/admin/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(readCacheService.stats());
+    }
+
+    /**
+     * JFR 녹화: seconds 초(기본 30, 최대 300) 동안 녹화한 .jfr 파일을 내려받음 (응답은 녹화가 끝난 뒤에 오지만 요청 스레드는 반납).
+     * Navi 이벤트(Home, Ranking, PlayerDetail, SeedPhase)와 CPU·GC·할당 이벤트만 포함, profile=true 면 샘플링을 촘촘히.
+     * X-Jfr-Token 헤더가 navi.jfr.token 과 다르거나 설정이 비어 있으면 403, 이미 녹화 중이면 409
+     */
+    @PostMapping("/admin/jfr")
+    public DeferredResult<ResponseEntity<byte[]>> recordFlight(
+            @RequestHeader(value = JFR_TOKEN_HEADER, required = false) String token,
+            @RequestParam(value = "seconds", required = false, defaultValue = "30") int seconds,
+            @RequestParam(value = "profile", required = false, defaultValue = "false") boolean profile) {
+        // 녹화 시간보다 길게 (기본 비동기 요청 타임아웃에 끊기지 않도록)
+        DeferredResult<ResponseEntity<byte[]>> result =
+                new DeferredResult<>(TimeUnit.SECONDS.toMillis(FlightRecorderService.MAX_SECONDS + 60));
+        if (!flightRecorderService.authorized(token)) {
+            result.setResult(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+            return result;
+        }
+        try {
+            flightRecorderService.start(seconds, profile).whenComplete((recording, error) -> {
+                if (error != null) {
+                    result.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                    return;
+                }
+                result.setResult(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("navi-" + System.currentTimeMillis() + ".jfr").build().toString())
+                        .body(recording));
+            });
+        } catch (IllegalStateException e) {
+            result.setResult(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        }
+        return result;
+    }
+
+    /**
+     * 데이터 버전 기준 조건부 GET.
+     * If-None-Match 가 현재 ETag 와 같으면(없으면 If-Modified-Since 가 마지막 변경 이후면) 서비스 호출·직렬화 없이 304,
+     * 아니면 2xx 응답에만 ETag / Last-Modified 를 붙이고(404 등은 캐시 검증 대상이 아님) 매번 재검증하도록 no-cache 지정.
+     * 버전은 본문보다 먼저 읽어, 본문이 ETag 보다 오래된 경우가 없음
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest request, Supplier<ResponseEntity<T>> handler) {
+        DataVersion.Stamp stamp = dataVersion.stamp();
+        boolean settled = stamp.lastModifiedSettled(System.currentTimeMillis());
+        if (notModified(request, stamp, settled)) {
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(stamp.eTag())
+                    .cacheControl(CacheControl.noCache());
+            if (settled) notModified.lastModified(stamp.lastModified());
+            return notModified.build();
+        }
+        ResponseEntity<T> response = handler.get();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .cacheControl(CacheControl.noCache());
+        if (response.getStatusCode().is2xxSuccessful()) {
+            builder.eTag(stamp.eTag());
+            if (settled) builder.lastModified(stamp.lastModified());
+        }
+        return builder.body(response.getBody());
+    }
+
+    /**
+     * If-None-Match 가 있으면 그것만 비교 (목록 중 하나라도 같으면, 약한 비교), 없을 때만 If-Modified-Since 사용.
+     * {@code *} 는 본문을 만들기 전이라 대상이 있는지 알 수 없으므로 맞는 것으로 보지 않음 (없는 선수·경기가 304 가 되지 않도록)
+     * If-Modified-Since 는 마지막 변경이 있던 초가 지난 뒤에만 인정 (같은 초 안의 변경은 초 단위 날짜로 구분할 수 없음)
+     */
+    private static boolean notModified(WebRequest request, DataVersion.Stamp stamp, boolean settled) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) t = t.substring(2);
+                if (t.equals(stamp.eTag())) return true;
+            }
+            return false;
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || !settled) return false;
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return since >= stamp.lastModified() / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean unpaged(LocalDate from, LocalDate to, String cursor, Integer limit) {
+        return from == null && to == null && cursor == null && limit == null;
+    }
+
+    /** 키셋 페이지 응답: 본문은 목록 그대로, 다음 페이지 커서는 헤더로 */
+    private static <T> ResponseEntity<List<T>> paged(LogPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
+    }
 }
@@ -0,0 +1,14 @@
+package com.navi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 경기 중 선수 한 명 골/도움 증감 요청 본문 (예: 골 +1, 잘못 누른 도움 -1) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddGoalAssistRequest {
+    private int goals;
+    private int assists;
+}
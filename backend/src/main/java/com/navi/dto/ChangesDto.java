@@ -0,0 +1,32 @@
+package com.navi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 증분 동기화 응답 (GET /api/changes?since=): since 이후 바뀐 행만.
+ * - reset 이면 부분 반영이 불가하므로 전체 목록을 다시 받고 version 부터 이어 받음
+ * - 출석·골/도움은 경기 단위로 통째로 교체 (attendanceMatchIds·goalAssistMatchIds 경기의 기존 항목을 지우고 새 항목 추가)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangesDto {
+    /** 다음 요청의 since 값 */
+    private long version;
+    private boolean reset;
+    private List<MatchDto> matches;
+    private List<Long> deletedMatchIds;
+    private List<Long> attendanceMatchIds;
+    private List<AttendanceLogDto> attendanceLogs;
+    private List<Long> goalAssistMatchIds;
+    private List<GoalAssistLogDto> goalLogs;
+    private List<PlayerListItemDto> players;
+    private List<NextMatchDto> nextMatches;
+    private List<Long> deletedNextMatchIds;
+}
@@ -28,4 +28,6 @@ public class CreateMatchRequest {
     private List<Long> attendeePlayerIds = new ArrayList<>();
     /** 골/도움 기록 (선수별) */
     private List<GoalAssistRecordItemDto> goalAssistRecords = new ArrayList<>();
+    /** 수정 시 폼을 불러올 때의 경기 버전 (선택, 다르면 다른 사람이 먼저 수정한 것으로 보고 거부) */
+    private Long version;
 }
@@ -0,0 +1,17 @@
+package com.navi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 경기별 선수 한 명 출석 상태 응답 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchAttendanceDto {
+    private Long matchId;
+    private Long playerId;
+    private boolean attended;
+}
@@ -22,6 +22,8 @@ public class MatchDetailDto {
     private String opponent;
     private int ourScore;
     private int opponentScore;
+    /** 경기 버전 (수정 요청의 version 으로 그대로 보냄) */
+    private long version;
     private List<Long> attendeePlayerIds = new ArrayList<>();
     private List<GoalAssistRecordItemDto> goalAssistRecords = new ArrayList<>();
 }
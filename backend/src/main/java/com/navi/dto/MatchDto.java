@@ -21,4 +21,6 @@ public class MatchDto {
     private int ourScore;
     private int opponentScore;
     private String result;
+    /** 경기 버전 (수정 요청 시 그대로 보내면 그 사이 다른 수정이 있었는지 확인) */
+    private long version;
 }
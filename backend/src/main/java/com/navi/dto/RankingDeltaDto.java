@@ -0,0 +1,20 @@
+package com.navi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** 순위 변경분 (실시간 스트림용): 순위나 수치가 바뀐 선수와 순위에서 빠진 선수만 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingDeltaDto {
+    /** goal, assist, attendance */
+    private String kind;
+    private List<RankingDto> changed;
+    private List<String> removed;
+}
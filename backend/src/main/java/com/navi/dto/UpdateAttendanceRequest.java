@@ -0,0 +1,13 @@
+package com.navi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 경기 중 선수 한 명 출석 변경 요청 본문 (attended 가 없으면 현재 상태를 뒤집음) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateAttendanceRequest {
+    private Boolean attended;
+}
@@ -0,0 +1,45 @@
+package com.navi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 기록 한 건 (GET /api/changes 증분 동기화용). ID가 곧 변경 버전
+ * - 행 내용 없이 (종류, 대상 ID)만 남기고, 응답은 조회 시점의 현재 행으로 만듦 (대상이 없으면 삭제로 알림)
+ * - 같은 (종류, 대상 ID)의 예전 기록은 압축 작업이 지움 (가장 최근 기록만 있으면 결과가 같음)
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+    @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeLog {
+
+    /** 바뀐 대상 종류 (ATTENDANCE·GOAL_ASSIST 는 경기 단위, RESET 은 전체 다시 받기) */
+    public enum Type {
+        MATCH, ATTENDANCE, GOAL_ASSIST, PLAYER, NEXT_MATCH, RESET
+    }
+
+    /** 변경 버전 (증가값, 커밋 순서와는 다를 수 있음) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private Type type;
+
+    /** 대상 ID (출석·골/도움은 경기 ID, RESET 은 0) */
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /** 기록 시각 */
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
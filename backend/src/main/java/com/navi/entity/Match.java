@@ -2,6 +2,7 @@ package com.navi.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -10,7 +11,11 @@ import java.time.LocalTime;
  * 경기 정보
  */
 @Entity
-@Table(name = "game")
+@Table(name = "game", indexes = {
+    @Index(name = "idx_game_match_date", columnList = "match_date")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_game_source_key", columnNames = {"source_key"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,12 +23,19 @@ import java.time.LocalTime;
 @Builder
 public class Match {
 
+    /** 경기 출처: CSV 응답 행(시드·재동기화) 또는 관리자 직접 등록 */
+    public enum Source {
+        CSV, ADMIN
+    }
+
+    /** 풀링 시퀀스 ID (CSV 시드 등 여러 경기 삽입을 JDBC 배치로 묶음, game_seq 테이블) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_seq")
+    @SequenceGenerator(name = "game_seq", sequenceName = "game_seq", allocationSize = 50)
     private Long id;
 
     /** 경기일 */
-    @Column(nullable = false)
+    @Column(name = "match_date", nullable = false)
     private LocalDate matchDate;
 
     /** 경기 시간 (선택) */
@@ -41,4 +53,23 @@ public class Match {
     /** 경기 결과: 승, 무, 패 */
     @Column(length = 10)
     private String result;
+
+    /** CSV 응답 행 키 (타임스탬프|경기일|상대팀). 관리자가 직접 등록한 경기는 null */
+    @Column(name = "source_key", length = 191)
+    private String sourceKey;
+
+    /** CSV 응답 행 내용 해시 (재동기화 시 바뀐 행만 반영) */
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
+
+    /** 경기 출처. 출처를 기록하기 전에 저장된 행은 null (CSV 시드인지 관리자 등록인지 알 수 없음) */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Source source;
+
+    /** 낙관적 잠금 버전 (경기 수정이 겹치면 나중 커밋이 실패, 기존 행은 0부터) */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 }
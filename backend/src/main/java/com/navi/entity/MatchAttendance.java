@@ -9,6 +9,8 @@ import lombok.*;
 @Entity
 @Table(name = "match_attendance", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"match_id", "player_id"})
+}, indexes = {
+    @Index(name = "idx_match_attendance_player", columnList = "player_id")
 })
 @Getter
 @Setter
@@ -17,8 +19,10 @@ import lombok.*;
 @Builder
 public class MatchAttendance {
 
+    /** 풀링 시퀀스 ID (한 번에 50개씩 할당받아 삽입을 JDBC 배치로 묶을 수 있음, MySQL에서는 match_attendance_seq 테이블) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_attendance_seq")
+    @SequenceGenerator(name = "match_attendance_seq", sequenceName = "match_attendance_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 /**
- * 경기별 선수 골/도움 기록
+ * 경기별 선수 골/도움 기록 (경기·선수당 한 행)
  */
 @Entity
-@Table(name = "match_goal_assist")
+@Table(name = "match_goal_assist", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_match_goal_assist_match_player", columnNames = {"match_id", "player_id"})
+}, indexes = {
+    @Index(name = "idx_match_goal_assist_player", columnList = "player_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +19,10 @@ import lombok.*;
 @Builder
 public class MatchGoalAssist {
 
+    /** 풀링 시퀀스 ID (출석과 같은 방식, match_goal_assist_seq 테이블) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_goal_assist_seq")
+    @SequenceGenerator(name = "match_goal_assist_seq", sequenceName = "match_goal_assist_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,43 @@
+package com.navi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 선수별 시즌 누적 기록 (골/도움/출석)
+ * 경기 등록·수정·삭제 시 증감으로 갱신되며, 순위는 이 테이블에서 바로 읽음
+ */
+@Entity
+@Table(name = "player_season_stats", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"player_id", "season_year"})
+}, indexes = {
+    @Index(name = "idx_player_season_stats_season", columnList = "season_year")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerSeasonStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    private Player player;
+
+    /** 시즌 연도 (예: 2026) */
+    @Column(name = "season_year", nullable = false)
+    private Integer seasonYear;
+
+    /** 시즌 골 수 */
+    private int goals = 0;
+
+    /** 시즌 도움 수 */
+    private int assists = 0;
+
+    /** 시즌 출석 경기 수 */
+    private int appearances = 0;
+}
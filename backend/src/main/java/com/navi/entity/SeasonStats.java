@@ -5,9 +5,12 @@ import lombok.*;
 
 /**
  * 시즌 전체 전적 (승/무/패)
+ * 경기 등록·수정·삭제 시에는 SeasonStatsRepository 의 원자적 증감 쿼리로만 바꿈 (동시 저장 시 유실 방지)
  */
 @Entity
-@Table(name = "season_stats")
+@Table(name = "season_stats", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"season_year"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,8 +22,8 @@ public class SeasonStats {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    /** 시즌 연도 (예: 2026) */
-    @Column(nullable = false)
+    /** 시즌 연도 (예: 2026, 시즌당 한 행) */
+    @Column(name = "season_year", nullable = false)
     private Integer seasonYear;
 
     /** 총 경기 수 */
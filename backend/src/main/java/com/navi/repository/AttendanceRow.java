@@ -0,0 +1,7 @@
+package com.navi.repository;
+
+/**
+ * 경기별 출석 한 건 (ID만 담은 조회 결과)
+ */
+public record AttendanceRow(Long matchId, Long playerId, boolean attended) {
+}
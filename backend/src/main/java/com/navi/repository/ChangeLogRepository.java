@@ -0,0 +1,31 @@
+package com.navi.repository;
+
+import com.navi.entity.ChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    /** 주어진 버전 이후 기록 (버전 오름차순) */
+    List<ChangeLog> findByIdGreaterThanOrderByIdAsc(Long version);
+
+    @Query("SELECT MAX(c.id) FROM ChangeLog c")
+    Long findMaxId();
+
+    /** 종류별 가장 최근 버전 (없으면 null) */
+    @Query("SELECT MAX(c.id) FROM ChangeLog c WHERE c.type = :type")
+    Long findMaxIdByType(ChangeLog.Type type);
+
+    /** 같은 (종류, 대상 ID)에 더 최근 기록이 있는 기록 ID (압축 대상) */
+    @Query("SELECT c.id FROM ChangeLog c WHERE c.id < "
+            + "(SELECT MAX(n.id) FROM ChangeLog n WHERE n.type = c.type AND n.entityId = c.entityId)")
+    List<Long> findSupersededIds();
+
+    @Modifying
+    @Query("DELETE FROM ChangeLog c WHERE c.id IN :ids")
+    int bulkDeleteByIdIn(Collection<Long> ids);
+}
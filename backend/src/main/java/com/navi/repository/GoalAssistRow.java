@@ -0,0 +1,7 @@
+package com.navi.repository;
+
+/**
+ * 경기별 선수 골/도움 한 건 (ID만 담은 조회 결과)
+ */
+public record GoalAssistRow(Long matchId, Long playerId, int goals, int assists) {
+}
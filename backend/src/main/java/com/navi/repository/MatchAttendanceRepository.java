@@ -2,7 +2,11 @@ package com.navi.repository;
 
 import com.navi.entity.MatchAttendance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +14,41 @@ public interface MatchAttendanceRepository extends JpaRepository<MatchAttendance
 
     List<MatchAttendance> findByMatchId(Long matchId);
 
+    /** 경기·선수 한 명의 출석 행 (동시 변경은 호출하는 쪽에서 경기 행을 먼저 잠가 차례로 처리) */
     Optional<MatchAttendance> findByMatchIdAndPlayerId(Long matchId, Long playerId);
+
+    /** 경기일 범위 안의 출석 기록을 ID만으로 한 번에 조회 (선수·경기 엔티티 로딩 없음) */
+    @Query("SELECT new com.navi.repository.AttendanceRow(ma.match.id, ma.player.id, ma.attended) "
+            + "FROM MatchAttendance ma WHERE ma.match.matchDate BETWEEN :from AND :to ORDER BY ma.id")
+    List<AttendanceRow> findRowsByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 한 경기의 출석 기록 (ID만, 삭제 전 선수별 누적 차감용) */
+    @Query("SELECT new com.navi.repository.AttendanceRow(ma.match.id, ma.player.id, ma.attended) "
+            + "FROM MatchAttendance ma WHERE ma.match.id = :matchId")
+    List<AttendanceRow> findRowsByMatchId(Long matchId);
+
+    /** 여러 경기의 출석 기록 (ID만, 증분 동기화용) */
+    @Query("SELECT new com.navi.repository.AttendanceRow(ma.match.id, ma.player.id, ma.attended) "
+            + "FROM MatchAttendance ma WHERE ma.match.id IN :matchIds ORDER BY ma.id")
+    List<AttendanceRow> findRowsByMatchIdIn(Collection<Long> matchIds);
+
+    /**
+     * 한 경기의 출석 기록을 DELETE 한 문장으로 삭제 (엔티티를 읽지 않음). 삭제한 행 수 반환.
+     * 실행 전 보류 중인 변경은 flush 함. 삭제 대상 엔티티를 영속성 컨텍스트에 올려 두지 않은 경우에만 사용
+     * (같은 트랜잭션에서 쓰는 경기 엔티티가 분리되지 않도록 clear 하지 않음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MatchAttendance ma WHERE ma.match.id = :matchId")
+    int bulkDeleteByMatchId(Long matchId);
+
+    /** 경기일 범위(양끝 포함, 한 시즌 등)의 출석 기록을 한 문장으로 삭제 (실행 전 flush, 실행 후 영속성 컨텍스트 비움) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MatchAttendance ma WHERE ma.match.id IN "
+            + "(SELECT m.id FROM Match m WHERE m.matchDate BETWEEN :from AND :to)")
+    int bulkDeleteByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 선수·시즌별 출석 수 집계: [playerId, seasonYear, count] */
+    @Query("SELECT ma.player.id, YEAR(ma.match.matchDate), COUNT(ma) FROM MatchAttendance ma "
+            + "WHERE ma.attended = true GROUP BY ma.player.id, YEAR(ma.match.matchDate)")
+    List<Object[]> countAttendedGroupByPlayerAndYear();
 }
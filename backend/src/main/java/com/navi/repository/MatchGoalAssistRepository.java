@@ -2,14 +2,70 @@ package com.navi.repository;
 
 import com.navi.entity.MatchGoalAssist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface MatchGoalAssistRepository extends JpaRepository<MatchGoalAssist, Long> {
 
     List<MatchGoalAssist> findByMatchIdOrderByGoalsDescAssistsDesc(Long matchId);
 
+    /** 경기·선수 한 명의 골/도움 (ID만, (match_id, player_id) 유니크 키라 최대 한 건) */
+    @Query("SELECT new com.navi.repository.GoalAssistRow(mga.match.id, mga.player.id, mga.goals, mga.assists) "
+            + "FROM MatchGoalAssist mga WHERE mga.match.id = :matchId AND mga.player.id = :playerId")
+    Optional<GoalAssistRow> findRow(Long matchId, Long playerId);
+
+    /** 경기·선수 한 명의 골/도움 증감을 한 문장으로 반영 (0 아래로는 내려가지 않음). 반영된 행 수 반환 (행이 없으면 0) */
+    @Modifying
+    @Query(value = "UPDATE match_goal_assist SET goals = GREATEST(0, goals + :goals), "
+            + "assists = GREATEST(0, assists + :assists) WHERE match_id = :matchId AND player_id = :playerId",
+            nativeQuery = true)
+    int addCounts(Long matchId, Long playerId, int goals, int assists);
+
+    /** 골·도움이 모두 0이 된 행 삭제 */
+    @Modifying
+    @Query("DELETE FROM MatchGoalAssist mga WHERE mga.match.id = :matchId AND mga.player.id = :playerId "
+            + "AND mga.goals = 0 AND mga.assists = 0")
+    int deleteIfEmpty(Long matchId, Long playerId);
+
     @Query("SELECT mga FROM MatchGoalAssist mga WHERE mga.player.id = :playerId")
     List<MatchGoalAssist> findAllByPlayerId(Long playerId);
+
+    /** 경기일 범위 안의 골/도움 기록을 ID만으로 한 번에 조회 (선수·경기 엔티티 로딩 없음) */
+    @Query("SELECT new com.navi.repository.GoalAssistRow(mga.match.id, mga.player.id, mga.goals, mga.assists) "
+            + "FROM MatchGoalAssist mga WHERE mga.match.matchDate BETWEEN :from AND :to ORDER BY mga.id")
+    List<GoalAssistRow> findRowsByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 한 경기의 골/도움 기록 (ID만, 삭제 전 선수별 누적 차감용) */
+    @Query("SELECT new com.navi.repository.GoalAssistRow(mga.match.id, mga.player.id, mga.goals, mga.assists) "
+            + "FROM MatchGoalAssist mga WHERE mga.match.id = :matchId")
+    List<GoalAssistRow> findRowsByMatchId(Long matchId);
+
+    /** 여러 경기의 골/도움 기록 (ID만, 증분 동기화용) */
+    @Query("SELECT new com.navi.repository.GoalAssistRow(mga.match.id, mga.player.id, mga.goals, mga.assists) "
+            + "FROM MatchGoalAssist mga WHERE mga.match.id IN :matchIds ORDER BY mga.id")
+    List<GoalAssistRow> findRowsByMatchIdIn(Collection<Long> matchIds);
+
+    /**
+     * 한 경기의 골/도움 기록을 DELETE 한 문장으로 삭제 (엔티티를 읽지 않음). 삭제한 행 수 반환.
+     * 실행 전 보류 중인 변경은 flush 함. 삭제 대상 엔티티를 영속성 컨텍스트에 올려 두지 않은 경우에만 사용
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MatchGoalAssist mga WHERE mga.match.id = :matchId")
+    int bulkDeleteByMatchId(Long matchId);
+
+    /** 경기일 범위(양끝 포함, 한 시즌 등)의 골/도움 기록을 한 문장으로 삭제 (실행 전 flush, 실행 후 영속성 컨텍스트 비움) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MatchGoalAssist mga WHERE mga.match.id IN "
+            + "(SELECT m.id FROM Match m WHERE m.matchDate BETWEEN :from AND :to)")
+    int bulkDeleteByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 선수·시즌별 골/도움 합계: [playerId, seasonYear, goals, assists] */
+    @Query("SELECT mga.player.id, YEAR(mga.match.matchDate), SUM(mga.goals), SUM(mga.assists) FROM MatchGoalAssist mga "
+            + "GROUP BY mga.player.id, YEAR(mga.match.matchDate)")
+    List<Object[]> sumGroupByPlayerAndYear();
 }
@@ -1,11 +1,52 @@
 package com.navi.repository;
 
 import com.navi.entity.Match;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
 
     List<Match> findAllByOrderByMatchDateDesc();
+
+    /** 경기 행을 잠그고 조회 (SELECT … FOR UPDATE). 같은 경기의 출석·골/도움 단건 변경을 한 번에 하나씩 처리 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.id = :id")
+    Optional<Match> findLockedById(Long id);
+
+    /**
+     * 경기 버전만 1 올림 (경기 정보는 그대로이고 참석자·골/도움만 바뀐 경우, 이전 버전으로 연 수정 폼의 저장이 충돌하도록).
+     * 버전이 version 일 때만 올림. 반영된 행 수 반환 (0이면 그사이 다른 곳에서 바뀐 것)
+     */
+    @Modifying
+    @Query("UPDATE Match m SET m.version = m.version + 1 WHERE m.id = :id AND m.version = :version")
+    int incrementVersion(Long id, long version);
+
+    /** 경기일 범위(양끝 포함) 안의 경기 (match_date 인덱스 범위 조회) */
+    List<Match> findByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 경기일 범위(양끝 포함) 안의 경기 ID (시즌 삭제 전 변경 기록용) */
+    @Query("SELECT m.id FROM Match m WHERE m.matchDate BETWEEN :from AND :to")
+    List<Long> findIdsByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** 경기일 범위(양끝 포함)의 경기를 한 문장으로 삭제 (출석·골/도움을 먼저 지워야 함, 실행 전 flush·실행 후 clear) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Match m WHERE m.matchDate BETWEEN :from AND :to")
+    int bulkDeleteByMatchDateBetween(LocalDate from, LocalDate to);
+
+    /** CSV에서 들어온 경기 (재동기화 시 행 키로 대조) */
+    List<Match> findBySourceKeyIsNotNull();
+
+    /** CSV 키가 없는 경기 (관리자 등록 경기와 키 도입 전에 시드된 경기, 재동기화 시 경기일·상대팀으로 대조) */
+    List<Match> findBySourceKeyIsNull();
+
+    /** 경기가 있는 시즌(연도) 목록 */
+    @Query("SELECT DISTINCT YEAR(m.matchDate) FROM Match m")
+    List<Integer> findSeasonYears();
 }
@@ -0,0 +1,36 @@
+package com.navi.repository;
+
+import com.navi.entity.PlayerSeasonStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlayerSeasonStatsRepository extends JpaRepository<PlayerSeasonStats, Long> {
+
+    List<PlayerSeasonStats> findBySeasonYearAndPlayerIdIn(Integer seasonYear, Collection<Long> playerIds);
+
+    /**
+     * 선수 한 명의 시즌 누적 증감을 한 문장으로 반영 (player_id, season_year 유니크 키 기준, 행이 없으면 생성).
+     * DB에서 더하므로 동시에 저장돼도 유실 없음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO player_season_stats (player_id, season_year, goals, assists, appearances) "
+            + "VALUES (:playerId, :seasonYear, :goals, :assists, :appearances) "
+            + "ON DUPLICATE KEY UPDATE goals = goals + :goals, assists = assists + :assists, "
+            + "appearances = appearances + :appearances", nativeQuery = true)
+    void upsertDelta(Long playerId, Integer seasonYear, int goals, int assists, int appearances);
+
+    /** 한 시즌의 선수별 누적을 한 문장으로 삭제 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlayerSeasonStats pss WHERE pss.seasonYear = :seasonYear")
+    int bulkDeleteBySeasonYear(Integer seasonYear);
+
+    /** 한 시즌의 선수별 골/도움/출석 합계 (홈 화면 세 순위를 한 번의 조회로 계산, 다른 시즌 행은 읽지 않음) */
+    @Query("SELECT new com.navi.repository.PlayerTotals(p.id, p.name, SUM(pss.goals), SUM(pss.assists), SUM(pss.appearances)) "
+            + "FROM PlayerSeasonStats pss JOIN pss.player p WHERE pss.seasonYear = :seasonYear "
+            + "GROUP BY p.id, p.name ORDER BY p.id")
+    List<PlayerTotals> sumGroupByPlayerForSeason(Integer seasonYear);
+}
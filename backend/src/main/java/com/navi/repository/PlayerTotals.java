@@ -0,0 +1,7 @@
+package com.navi.repository;
+
+/**
+ * 선수별 골/도움/출석 합계 한 줄 (시즌 하나 또는 여러 시즌을 합친 값)
+ */
+public record PlayerTotals(Long playerId, String name, Long goals, Long assists, Long appearances) {
+}
@@ -2,6 +2,8 @@ package com.navi.repository;
 
 import com.navi.entity.SeasonStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -10,4 +12,42 @@ public interface SeasonStatsRepository extends JpaRepository<SeasonStats, Long>
     Optional<SeasonStats> findTopByOrderBySeasonYearDesc();
 
     Optional<SeasonStats> findBySeasonYear(Integer seasonYear);
+
+    /** 시즌 전적 행 삭제 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SeasonStats s WHERE s.seasonYear = :seasonYear")
+    int bulkDeleteBySeasonYear(Integer seasonYear);
+
+    /** 시즌 행이 없으면 0승 0무 0패로 생성 (season_year 유니크 키 기준, 동시에 호출돼도 한 행만 생김) */
+    @Modifying
+    @Query(value = "INSERT INTO season_stats (season_year, total_matches, wins, draws, losses) VALUES (:seasonYear, 0, 0, 0, 0) "
+            + "ON DUPLICATE KEY UPDATE season_year = season_year", nativeQuery = true)
+    void insertIfAbsent(Integer seasonYear);
+
+    /**
+     * 시즌 전적 증감을 한 문장으로 반영 (읽고-더하고-쓰기 없이 DB에서 계산하므로 동시 저장 시에도 유실 없음).
+     * 0 아래로는 내려가지 않음. 반영된 행 수 반환 (시즌 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE SeasonStats s SET "
+            + "s.totalMatches = CASE WHEN s.totalMatches + :matches < 0 THEN 0 ELSE s.totalMatches + :matches END, "
+            + "s.wins = CASE WHEN s.wins + :wins < 0 THEN 0 ELSE s.wins + :wins END, "
+            + "s.draws = CASE WHEN s.draws + :draws < 0 THEN 0 ELSE s.draws + :draws END, "
+            + "s.losses = CASE WHEN s.losses + :losses < 0 THEN 0 ELSE s.losses + :losses END "
+            + "WHERE s.seasonYear = :seasonYear")
+    int addCounts(Integer seasonYear, int matches, int wins, int draws, int losses);
+
+    /**
+     * 모든 시즌 행의 전적을 경기 테이블에서 한 문장으로 다시 계산 (경기가 없는 시즌은 0, 결과가 승·무가 아니면 패).
+     * 시즌 행은 UPDATE 가 잠그고 InnoDB 는 하위 쿼리가 읽는 경기 행에 공유 잠금을 걸므로,
+     * 동시에 커밋되는 경기 저장의 addCounts 를 덮어쓰지 않음 (먼저 커밋된 경기는 집계에 포함, 나중 것은 이 문장 뒤에 더해짐)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE season_stats s SET "
+            + "total_matches = (SELECT COUNT(*) FROM game g WHERE YEAR(g.match_date) = s.season_year), "
+            + "wins = (SELECT COUNT(*) FROM game g WHERE YEAR(g.match_date) = s.season_year AND g.result = '승'), "
+            + "draws = (SELECT COUNT(*) FROM game g WHERE YEAR(g.match_date) = s.season_year AND g.result = '무'), "
+            + "losses = (SELECT COUNT(*) FROM game g WHERE YEAR(g.match_date) = s.season_year "
+            + "AND (g.result IS NULL OR g.result NOT IN ('승', '무')))", nativeQuery = true)
+    int recomputeAllFromMatches();
 }
@@ -0,0 +1,91 @@
+package com.navi.service;
+
+import com.navi.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 변경 기록(change_log) 커서: 이 버전 이하는 모두 커밋(또는 롤백)이 끝났다고 보장되는 가장 큰 버전
+ * - 버전은 INSERT 때 정해지고 커밋은 그보다 늦으므로, 최대 버전만 보면 아직 커밋 안 된 더 작은 버전을 건너뜀
+ *   (CSV 재동기화처럼 긴 트랜잭션이 앞에서 남긴 선수 기록 등)
+ * - 기록 INSERT 는 allocationLock 안에서 하고 그 트랜잭션이 받은 가장 작은 버전을 열린 목록에 올림.
+ *   트랜잭션이 끝나면(afterCompletion) 목록에서 뺌 → 커서 = min(열린 버전 중 최소 - 1, 발급한 최대 버전)
+ * - 목록에서 빼는 동기화는 가장 늦은 순서라, 커서 안의 변경은 커밋 후 리스너(스냅샷 갱신 표시)까지 끝난 상태
+ * - 버전 발급을 이 프로세스 안에서 보므로 앱 인스턴스가 하나인 배포 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeCursor {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    /** 기록 INSERT 와 열린 목록·발급 버전 갱신을 한 번에 (발급 순서 = 버전 순서) */
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    /** 끝나지 않은 트랜잭션이 받은 가장 작은 버전 (allocationLock 으로 보호) */
+    private final TreeSet<Long> open = new TreeSet<>();
+    /** 지금까지 발급한 최대 버전 (처음 쓸 때 DB에서 읽음, allocationLock 으로 보호) */
+    private long allocated = -1;
+
+    /**
+     * 호출한 트랜잭션 안에서 기록 INSERT 실행 (insert 는 삽입한 기록의 버전을 반환, IDENTITY 라 즉시 INSERT 됨)
+     * 트랜잭션이 끝날 때까지 그 가장 작은 버전 아래로 커서를 묶어 둠
+     */
+    public void allocate(Supplier<List<Long>> insert) {
+        allocationLock.lock();
+        try {
+            initialize();
+            List<Long> ids = insert.get();
+            if (ids.isEmpty()) return;
+            long low = ids.stream().mapToLong(Long::longValue).min().getAsLong();
+            allocated = Math.max(allocated, ids.stream().mapToLong(Long::longValue).max().getAsLong());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return Ordered.LOWEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    release(low);
+                }
+            });
+            open.add(low);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    /** 이 버전 이하는 모두 커밋이 끝남 (DB 조회 없이 계산, 처음 한 번만 최대 버전을 읽음) */
+    public long committed() {
+        allocationLock.lock();
+        try {
+            initialize();
+            return open.isEmpty() ? allocated : Math.min(allocated, open.first() - 1);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    private void release(long low) {
+        allocationLock.lock();
+        try {
+            open.remove(low);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    private void initialize() {
+        if (allocated >= 0) return;
+        Long max = changeLogRepository.findMaxId();
+        allocated = max != null ? max : 0L;
+    }
+}
@@ -0,0 +1,247 @@
+package com.navi.service;
+
+import com.navi.dto.*;
+import com.navi.entity.ChangeLog;
+import com.navi.entity.Match;
+import com.navi.entity.Player;
+import com.navi.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변경 기록(change_log)과 증분 동기화 (GET /api/changes?since=)
+ * - 쓰기 메서드가 같은 트랜잭션 안에서 (종류, 대상 ID)를 남기므로 롤백되면 기록도 사라짐
+ * - 응답은 since 이후 기록의 대상 행을 한 읽기 전용 트랜잭션에서 현재 값으로 읽어 만듦 (없는 대상은 삭제로 알림)
+ * - ID(버전)는 커밋 순서와 다를 수 있어, 다음 since 는 ChangeCursor(이하가 모두 커밋된 버전)까지만 넘김.
+ *   그 뒤 항목은 보내되 다음 요청에 다시 내려감 (겹쳐 받은 항목은 같은 값으로 다시 덮어쓰일 뿐)
+ * - reset 응답의 버전은 조회 스냅샷이 반영한 커서 (클라이언트는 전체 목록을 스냅샷에서 다시 받으므로)
+ * - 압축: 같은 (종류, 대상 ID)에 더 최근 기록이 있으면 예전 기록을 지움. 응답 결과는 같고 테이블은 데이터 행 수 이하로 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeLogService {
+
+    /** RESET 기록의 대상 ID */
+    private static final long NO_ENTITY = 0L;
+    private static final int DELETE_CHUNK = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final MatchRepository matchRepository;
+    private final MatchAttendanceRepository attendanceRepository;
+    private final MatchGoalAssistRepository goalAssistRepository;
+    private final PlayerRepository playerRepository;
+    private final NextMatchRepository nextMatchRepository;
+    private final ChangeCursor cursor;
+    private final SeasonReadModel readModel;
+
+    /** 대상 행 변경 기록 (호출한 쓰기 트랜잭션에 참여, 커밋될 때까지 커서를 그 버전 아래로 묶음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeLog.Type type, Collection<Long> entityIds) {
+        LocalDateTime now = LocalDateTime.now();
+        cursor.allocate(() -> changeLogRepository.saveAll(entityIds.stream()
+                        .map(id -> ChangeLog.builder().type(type).entityId(id).changedAt(now).build())
+                        .toList())
+                .stream()
+                .map(ChangeLog::getId)
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeLog.Type type, Long entityId) {
+        record(type, List.of(entityId));
+    }
+
+    /** 경기 정보·출석·골/도움이 모두 바뀐 경기 (등록·수정·삭제) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMatches(Collection<Long> matchIds) {
+        if (matchIds.isEmpty()) return;
+        record(ChangeLog.Type.MATCH, matchIds);
+        record(ChangeLog.Type.ATTENDANCE, matchIds);
+        record(ChangeLog.Type.GOAL_ASSIST, matchIds);
+    }
+
+    /** 전체 시드 등 부분 반영이 불가한 변경: 이전 버전으로 요청하면 전체 다시 받기 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReset() {
+        record(ChangeLog.Type.RESET, NO_ENTITY);
+    }
+
+    /**
+     * since 이후 바뀐 행. since 가 없거나, 그 뒤에 전체 시드가 있었거나, 발급된 버전보다 크면(DB 교체 등) reset
+     */
+    @Transactional(readOnly = true)
+    public ChangesDto changesSince(Long since) {
+        // DB 를 읽기 전에 잡아야 커서 이하의 기록이 이 트랜잭션에서 모두 보임
+        long committed = cursor.committed();
+        long latest = orZero(changeLogRepository.findMaxId());
+        long lastReset = orZero(changeLogRepository.findMaxIdByType(ChangeLog.Type.RESET));
+        if (since == null || since > Math.max(latest, committed) || since < lastReset) {
+            return emptyChanges(readModel.changeCursor(), true);
+        }
+        List<ChangeLog> entries = changeLogRepository.findByIdGreaterThanOrderByIdAsc(since);
+        if (entries.isEmpty()) return emptyChanges(since, false);
+
+        Map<ChangeLog.Type, Set<Long>> idsByType = new EnumMap<>(ChangeLog.Type.class);
+        for (ChangeLog entry : entries) {
+            idsByType.computeIfAbsent(entry.getType(), t -> new LinkedHashSet<>()).add(entry.getEntityId());
+        }
+        Set<Long> matchIds = idsByType.getOrDefault(ChangeLog.Type.MATCH, Set.of());
+        Set<Long> attendanceMatchIds = idsByType.getOrDefault(ChangeLog.Type.ATTENDANCE, Set.of());
+        Set<Long> goalAssistMatchIds = idsByType.getOrDefault(ChangeLog.Type.GOAL_ASSIST, Set.of());
+        Set<Long> playerIds = idsByType.getOrDefault(ChangeLog.Type.PLAYER, Set.of());
+        Set<Long> nextMatchIds = idsByType.getOrDefault(ChangeLog.Type.NEXT_MATCH, Set.of());
+
+        Set<Long> referencedMatchIds = new HashSet<>(matchIds);
+        referencedMatchIds.addAll(attendanceMatchIds);
+        referencedMatchIds.addAll(goalAssistMatchIds);
+        Map<Long, Match> matches = byId(matchRepository.findAllById(referencedMatchIds), Match::getId);
+        List<AttendanceRow> attendanceRows = attendanceMatchIds.isEmpty() ? List.of()
+                : attendanceRepository.findRowsByMatchIdIn(attendanceMatchIds);
+        List<GoalAssistRow> goalAssistRows = goalAssistMatchIds.isEmpty() ? List.of()
+                : goalAssistRepository.findRowsByMatchIdIn(goalAssistMatchIds);
+        Set<Long> referencedPlayerIds = new HashSet<>(playerIds);
+        attendanceRows.forEach(a -> referencedPlayerIds.add(a.playerId()));
+        goalAssistRows.forEach(ga -> referencedPlayerIds.add(ga.playerId()));
+        Map<Long, Player> players = byId(playerRepository.findAllById(referencedPlayerIds), Player::getId);
+        Map<Long, NextMatchDto> nextMatches = nextMatchRepository.findAllById(nextMatchIds).stream()
+                .map(m -> NextMatchDto.builder()
+                        .id(m.getId())
+                        .matchDate(m.getMatchDate())
+                        .matchTime(m.getMatchTime())
+                        .opponent(m.getOpponent())
+                        .venue(m.getVenue())
+                        .memo(m.getMemo())
+                        .build())
+                .collect(Collectors.toMap(NextMatchDto::getId, m -> m));
+
+        return ChangesDto.builder()
+                .version(Math.max(since, committed))
+                .reset(false)
+                .matches(matchIds.stream().map(matches::get).filter(Objects::nonNull).map(ChangeLogService::toDto).toList())
+                .deletedMatchIds(matchIds.stream().filter(id -> !matches.containsKey(id)).toList())
+                .attendanceMatchIds(List.copyOf(attendanceMatchIds))
+                .attendanceLogs(attendanceLogsOf(attendanceMatchIds, matches, attendanceRows, players))
+                .goalAssistMatchIds(List.copyOf(goalAssistMatchIds))
+                .goalLogs(goalLogsOf(goalAssistMatchIds, matches, goalAssistRows, players))
+                .players(playerIds.stream().map(players::get).filter(Objects::nonNull)
+                        .map(p -> PlayerListItemDto.builder()
+                                .id(p.getId())
+                                .name(p.getName())
+                                .phoneNumber(p.getPhoneNumber())
+                                .build())
+                        .toList())
+                .nextMatches(nextMatchIds.stream().map(nextMatches::get).filter(Objects::nonNull).toList())
+                .deletedNextMatchIds(nextMatchIds.stream().filter(id -> !nextMatches.containsKey(id)).toList())
+                .build();
+    }
+
+    /** 압축: 더 최근 기록이 있는 (종류, 대상 ID)의 예전 기록 삭제. 지운 행 수 반환 */
+    @Scheduled(cron = "${navi.changes.compact-cron:0 30 4 * * *}")
+    @Transactional
+    public int compact() {
+        List<Long> superseded = changeLogRepository.findSupersededIds();
+        int deleted = 0;
+        for (int i = 0; i < superseded.size(); i += DELETE_CHUNK) {
+            deleted += changeLogRepository.bulkDeleteByIdIn(
+                    superseded.subList(i, Math.min(i + DELETE_CHUNK, superseded.size())));
+        }
+        if (deleted > 0) log.info("변경 기록 압축: {}건 삭제", deleted);
+        return deleted;
+    }
+
+    private static ChangesDto emptyChanges(long version, boolean reset) {
+        return ChangesDto.builder()
+                .version(version)
+                .reset(reset)
+                .matches(List.of())
+                .deletedMatchIds(List.of())
+                .attendanceMatchIds(List.of())
+                .attendanceLogs(List.of())
+                .goalAssistMatchIds(List.of())
+                .goalLogs(List.of())
+                .players(List.of())
+                .nextMatches(List.of())
+                .deletedNextMatchIds(List.of())
+                .build();
+    }
+
+    /** 남아 있는 경기의 출석 선수 목록 (이름순, 출석 탭과 같은 형태) */
+    private static List<AttendanceLogDto> attendanceLogsOf(Set<Long> matchIds, Map<Long, Match> matches,
+                                                           List<AttendanceRow> rows, Map<Long, Player> players) {
+        Map<Long, List<AttendanceRow>> byMatch = rows.stream().collect(Collectors.groupingBy(AttendanceRow::matchId));
+        return matchIds.stream()
+                .map(matches::get)
+                .filter(Objects::nonNull)
+                .map(m -> AttendanceLogDto.builder()
+                        .matchId(m.getId())
+                        .matchDate(m.getMatchDate())
+                        .opponent(m.getOpponent())
+                        .attendedPlayerNames(byMatch.getOrDefault(m.getId(), List.of()).stream()
+                                .filter(AttendanceRow::attended)
+                                .map(a -> nameOf(players, a.playerId()))
+                                .sorted()
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    /** 남아 있는 경기의 골/도움 로그 (경기 내 골·도움 내림차순, 골 탭과 같은 형태) */
+    private static List<GoalAssistLogDto> goalLogsOf(Set<Long> matchIds, Map<Long, Match> matches,
+                                                     List<GoalAssistRow> rows, Map<Long, Player> players) {
+        Map<Long, List<GoalAssistRow>> byMatch = rows.stream().collect(Collectors.groupingBy(GoalAssistRow::matchId));
+        List<GoalAssistLogDto> list = new ArrayList<>();
+        for (Long matchId : matchIds) {
+            Match m = matches.get(matchId);
+            if (m == null) continue;
+            byMatch.getOrDefault(matchId, List.of()).stream()
+                    .filter(ga -> ga.goals() > 0 || ga.assists() > 0)
+                    .sorted(Comparator.comparingInt(GoalAssistRow::goals).reversed()
+                            .thenComparing(Comparator.comparingInt(GoalAssistRow::assists).reversed()))
+                    .forEach(ga -> list.add(GoalAssistLogDto.builder()
+                            .matchId(m.getId())
+                            .matchDate(m.getMatchDate())
+                            .opponent(m.getOpponent())
+                            .playerName(nameOf(players, ga.playerId()))
+                            .goals(ga.goals())
+                            .assists(ga.assists())
+                            .build()));
+        }
+        return list;
+    }
+
+    private static MatchDto toDto(Match m) {
+        return MatchDto.builder()
+                .id(m.getId())
+                .matchDate(m.getMatchDate())
+                .matchTime(m.getMatchTime())
+                .opponent(m.getOpponent())
+                .ourScore(m.getOurScore())
+                .opponentScore(m.getOpponentScore())
+                .result(m.getResult())
+                .version(m.getVersion())
+                .build();
+    }
+
+    private static String nameOf(Map<Long, Player> players, Long playerId) {
+        Player p = players.get(playerId);
+        return p != null ? p.getName() : "?";
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> idOf) {
+        return rows.stream().collect(Collectors.toMap(idOf, r -> r));
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
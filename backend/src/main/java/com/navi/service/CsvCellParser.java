@@ -0,0 +1,158 @@
+package com.navi.service;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구글 폼 CSV 셀 파서 (정규식·예외 없이 한 번 훑어서 처리)
+ * - 골/도움 기록: "이름 N골", "이름 N도움", "이름 N골 N도움", "이름 N골N도움" 을 줄 단위로
+ * - 날짜: "yyyy. M. d", "yyyy.M.d" (점 뒤 공백 허용)
+ */
+public final class CsvCellParser {
+
+    private CsvCellParser() {
+    }
+
+    /** 골/도움 한 줄 결과 */
+    public record GoalAssist(String playerName, int goals, int assists) {
+    }
+
+    /** 골/도움 기록 셀을 줄마다 파싱 (이름이 없거나 골·도움이 모두 0인 줄은 제외) */
+    public static List<GoalAssist> parseGoalAssists(String text) {
+        List<GoalAssist> result = new ArrayList<>();
+        if (text == null) return result;
+        int len = text.length();
+        int lineStart = 0;
+        while (lineStart < len) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = len;
+            GoalAssist ga = parseLine(text, lineStart, lineEnd);
+            if (ga != null) result.add(ga);
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * 한 줄: 공백으로 나눈 토큰 중 처음 나오는 "N골"/"N도움" 토큰 앞까지가 이름.
+     * 그 뒤의 개수 토큰은 모두 더함
+     */
+    private static GoalAssist parseLine(String s, int start, int end) {
+        int nameStart = -1;
+        int nameEnd = -1;
+        int goals = 0;
+        int assists = 0;
+        boolean counting = false;
+        int i = start;
+        while (i < end) {
+            while (i < end && isSpace(s.charAt(i))) i++;
+            if (i >= end) break;
+            int tokenStart = i;
+            while (i < end && !isSpace(s.charAt(i))) i++;
+            long counts = parseCountToken(s, tokenStart, i);
+            if (counts >= 0) {
+                counting = true;
+                goals += (int) (counts >>> 32);
+                assists += (int) counts;
+            } else if (!counting) {
+                if (nameStart < 0) nameStart = tokenStart;
+                nameEnd = i;
+            }
+        }
+        if (nameStart < 0 || (goals == 0 && assists == 0)) return null;
+        return new GoalAssist(s.substring(nameStart, nameEnd), goals, assists);
+    }
+
+    /** "2골", "1도움", "1골1도움" 토큰이면 (골 << 32 | 도움), 아니면 -1 */
+    private static long parseCountToken(String s, int start, int end) {
+        int goals = 0;
+        int assists = 0;
+        int i = start;
+        if (i >= end) return -1;
+        while (i < end) {
+            int n = 0;
+            int digits = 0;
+            while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                n = n * 10 + (s.charAt(i) - '0');
+                if (++digits > 4) return -1;
+                i++;
+            }
+            if (digits == 0) return -1;
+            if (i < end && s.charAt(i) == '골') {
+                goals += n;
+                i++;
+            } else if (i + 1 < end && s.charAt(i) == '도' && s.charAt(i + 1) == '움') {
+                assists += n;
+                i += 2;
+            } else {
+                return -1;
+            }
+        }
+        return ((long) goals << 32) | assists;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\u00A0';
+    }
+
+    /** "2026. 1. 18" / "2026.2.15" → 날짜 (형식이 다르거나 없는 날짜면 null) */
+    public static LocalDate parseDate(String s) {
+        if (s == null) return null;
+        int[] parts = new int[3];
+        int part = 0;
+        int digits = 0;
+        int len = s.length();
+        int i = 0;
+        while (i < len && isSpace(s.charAt(i))) i++;
+        for (; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (part > 2 || ++digits > 4) return null;
+                parts[part] = parts[part] * 10 + (c - '0');
+            } else if (c == '.') {
+                if (digits == 0 || part >= 2) return null;
+                part++;
+                digits = 0;
+            } else if (isSpace(c)) {
+                if (digits != 0 && part == 2) break; // 일 뒤 공백: 끝
+                if (digits != 0) return null;        // 숫자 중간 공백
+            } else {
+                return null;
+            }
+        }
+        for (; i < len; i++) {
+            if (!isSpace(s.charAt(i))) return null;
+        }
+        if (part != 2 || digits == 0) return null;
+        try {
+            return LocalDate.of(parts[0], parts[1], parts[2]);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /** 숫자와 '-' 만 골라 정수로 ("3명" → 3). 숫자가 없거나 형식이 맞지 않으면 기본값 */
+    public static int parseInt(String s, int defaultValue) {
+        if (s == null) return defaultValue;
+        long value = 0;
+        int digits = 0;
+        boolean negative = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > (long) Integer.MAX_VALUE + 1) return defaultValue;
+                digits++;
+            } else if (c == '-') {
+                if (negative || digits > 0) return defaultValue;
+                negative = true;
+            }
+        }
+        if (digits == 0) return defaultValue;
+        long signed = negative ? -value : value;
+        if (signed > Integer.MAX_VALUE || signed < Integer.MIN_VALUE) return defaultValue;
+        return (int) signed;
+    }
+}
@@ -1,39 +1,46 @@
 package com.navi.service;
 
+import com.navi.config.HibernateRequestStats;
 import com.navi.entity.*;
 import com.navi.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * classpath의 data/*.csv 를 읽어 DB에 초기 데이터 시드
  * (resources/data/ 에 CSV 배치 후 init 프로필 실행 시 사용)
+ * - 선수는 처음에 이름 → ID 맵으로 한 번만 읽고, 경기 CSV는 한 줄씩 읽으며 한 트랜잭션 안에서 JDBC 배치로 삽입
+ * - 이미 데이터가 있으면 응답 행 키·내용 해시로 대조해 바뀐 경기만 반영 (syncFromCsv)
+ * - 단계(선수, 시즌 전적, 경기, 다음 경기, 선수 합계)마다 navi.seed.phase 타이머(태그: operation=seed|sync, phase)와
+ *   JFR SeedPhase 이벤트(처리 행 수, SQL 문장 수) 기록
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CsvSeedService {
 
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy. M. d");
-    private static final DateTimeFormatter DATE_FORMAT_NO_SPACE = DateTimeFormatter.ofPattern("yyyy.M.d");
-    private static final Pattern GOAL_PATTERN = Pattern.compile("(\\d+)골");
-    private static final Pattern ASSIST_PATTERN = Pattern.compile("(\\d+)도움");
+    /** 이 경기 수마다 flush·clear (삽입은 hibernate.jdbc.batch_size 단위로 묶이고, 영속성 컨텍스트가 커지지 않음) */
+    private static final int FLUSH_EVERY_MATCHES = 50;
 
     private final PlayerRepository playerRepository;
     private final MatchRepository matchRepository;
@@ -41,58 +48,200 @@ public class CsvSeedService {
     private final MatchGoalAssistRepository goalAssistRepository;
     private final SeasonStatsRepository seasonStatsRepository;
     private final NextMatchRepository nextMatchRepository;
+    private final PlayerStatsService playerStatsService;
+    private final ChangeLogService changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    /** 응답.csv 한 행 (key: 타임스탬프|경기일|상대팀, hash: 키를 뺀 내용의 SHA-256) */
+    private record ResponseRow(String key, String hash, LocalDate matchDate, String opponent, int ourScore,
+                               int opponentScore, String result, List<String> attendeeNames, String goalAssistText) {
+    }
+
+    /** 경기 한 건과 함께 저장한 출석·골/도움 행 */
+    private record MatchRows(Match match, List<MatchAttendance> attendances, List<MatchGoalAssist> goalAssists) {
+    }
+
+    /** 한 번의 시드에서 새로 넣은 행 수 */
+    private static final class SeedCounts {
+        int players;
+        int matches;
+        int attendances;
+        int goalAssists;
+    }
 
     /** 이미 데이터가 있으면 시드하지 않음. CSV 리소스 없거나 오류 시 false 반환(예외 없음). */
     @Transactional
-    public boolean seedIfEmpty() {
+    public SeedReport seedIfEmpty() {
         if (seasonStatsRepository.count() > 0) {
             log.info("DB에 이미 데이터가 있어 CSV 시드를 건너뜁니다.");
-            return false;
+            return SeedReport.notDone();
         }
         return runSeed();
     }
 
     /**
-     * 기존 CSV 기반 데이터를 삭제한 뒤 CSV로 다시 시드.
-     * 선수(Player)는 삭제하지 않아 전화번호 등이 유지됩니다.
+     * 응답.csv 를 기존 데이터를 지우지 않고 다시 반영.
+     * - 행 키로 경기를 찾아 없으면 추가하고, 내용 해시가 바뀐 행만 경기·출석·골/도움을 교체 (같으면 관리자 수정 유지)
+     * - CSV에서 사라진 CSV 출처 경기는 삭제, 관리자가 직접 등록한 경기(키 없음)는 그대로 둠
+     * - 키 없는 경기와 경기일·상대팀이 같은 행: CSV 출처면 키만 붙이고, 출처 기록 전 경기는 점수·결과까지 같을 때만 이어 씀.
+     *   관리자 등록 경기이거나 내용이 다르면 건드리지 않고 CSV 행도 넣지 않은 채 충돌로 보고 (SyncReport.conflicts)
+     * - 시즌 전적은 경기 테이블에서 다시 계산
+     * - 한 트랜잭션으로 처리하고 조회 스냅샷은 커밋 후에 교체되므로 반쯤 반영된 상태는 보이지 않음 (실패 시 전체 롤백)
      */
     @Transactional
-    public boolean seedForce() {
-        if (!resourceExists("data/goal_assist.csv")) {
-            log.warn("CSV 리소스 없음: data/goal_assist.csv (JAR 내 resources/data/ 확인)");
-            return false;
+    public SyncReport syncFromCsv() {
+        if (!resourceExists("data/goal_assist.csv") || !resourceExists("data/response.csv")) {
+            log.warn("CSV 리소스 없음: data/goal_assist.csv, data/response.csv (JAR 내 resources/data/ 확인)");
+            return SyncReport.notDone();
         }
         try {
-            // FK 순서: 골/도움·출석 → 경기, 다음경기·시즌통계
-            goalAssistRepository.deleteAll();
-            attendanceRepository.deleteAll();
-            matchRepository.deleteAll();
-            nextMatchRepository.deleteAll();
-            seasonStatsRepository.deleteAll();
-            log.info("기존 시즌/경기/출석/골도움 데이터 삭제 후 CSV 재시드 진행.");
-            return runSeed();
+            long start = System.nanoTime();
+            SeedCounts counts = new SeedCounts();
+            Phase phase = new Phase("sync", "players");
+            Map<String, Long> playerIds = seedPlayersFromGoalAssist(counts);
+            phase.end(counts.players);
+            phase = new Phase("sync", "matches");
+            Map<String, Match> byKey = new HashMap<>();
+            matchRepository.findBySourceKeyIsNotNull().forEach(m -> byKey.put(m.getSourceKey(), m));
+            // 키 도입 전에 시드된 경기: 경기일|상대팀 → 경기
+            Map<String, Match> unkeyed = new HashMap<>();
+            matchRepository.findBySourceKeyIsNull()
+                    .forEach(m -> unkeyed.putIfAbsent(naturalKey(m.getMatchDate(), m.getOpponent()), m));
+            Set<String> seen = new HashSet<>();
+            Set<Integer> years = new HashSet<>();
+            List<Long> changedMatchIds = new ArrayList<>();
+            List<Long> conflicts = new ArrayList<>();
+            int inserted = 0;
+            int updated = 0;
+            int unchanged = 0;
+            ClassPathResource resource = new ClassPathResource("data/response.csv");
+            try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+                 CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT.builder().setHeader().build())) {
+                for (CSVRecord record : parser) {
+                    ResponseRow row = toResponseRow(record);
+                    if (row == null || !seen.add(row.key())) continue;
+                    Match match = byKey.get(row.key());
+                    if (match == null) {
+                        match = unkeyed.remove(naturalKey(row.matchDate(), row.opponent()));
+                        if (match != null) {
+                            if (!adoptable(match, row)) { // 관리자 경기를 CSV 경기로 바꾸지도, 같은 경기를 하나 더 넣지도 않음
+                                conflicts.add(match.getId());
+                                continue;
+                            }
+                            match.setSourceKey(row.key()); // 내용은 그대로 두고 키만 부여
+                            match.setSourceHash(row.hash());
+                            match.setSource(Match.Source.CSV);
+                            unchanged++;
+                            continue;
+                        }
+                        MatchRows rows = insertMatch(row, playerIds);
+                        playerStatsService.applyMatch(row.matchDate().getYear(), rows.attendances(), rows.goalAssists(), 1);
+                        years.add(row.matchDate().getYear());
+                        changedMatchIds.add(rows.match().getId());
+                        inserted++;
+                    } else if (row.hash().equals(match.getSourceHash())) {
+                        unchanged++;
+                    } else {
+                        years.add(match.getMatchDate().getYear());
+                        replaceMatch(match, row, playerIds);
+                        years.add(row.matchDate().getYear());
+                        changedMatchIds.add(match.getId());
+                        updated++;
+                    }
+                }
+            }
+            int deleted = 0;
+            for (Match match : byKey.values()) {
+                if (seen.contains(match.getSourceKey())) continue;
+                years.add(match.getMatchDate().getYear());
+                changedMatchIds.add(match.getId());
+                deleteMatchRows(match);
+                deleted++;
+            }
+            changeLog.recordMatches(changedMatchIds);
+            phase.end(inserted + updated + deleted);
+            phase = new Phase("sync", "season-stats");
+            Set<Integer> recomputed = recomputeSeasonStats();
+            phase.end(recomputed.size());
+            years.addAll(recomputed);
+            phase = new Phase("sync", "next-match");
+            phase.end(seedNextMatchFromAttendance());
+            SyncReport report = new SyncReport(true, counts.players, inserted, updated, unchanged, deleted,
+                    List.copyOf(conflicts), (System.nanoTime() - start) / 1_000_000);
+            if (report.changed() || !years.isEmpty()) {
+                eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("csv-sync", years.toArray(Integer[]::new)));
+            }
+            if (!conflicts.isEmpty()) {
+                log.warn("CSV 재동기화: 직접 등록된 경기와 경기일·상대팀이 겹쳐 반영하지 않은 행 {}개 (경기 ID {})",
+                        conflicts.size(), conflicts);
+            }
+            log.info("CSV 재동기화 완료: 추가 {}, 변경 {}, 동일 {}, 삭제 {}, 충돌 {}, {}ms",
+                    inserted, updated, unchanged, deleted, conflicts.size(), report.elapsedMs());
+            return report;
         } catch (Exception e) {
-            log.error("CSV 강제 시드 중 오류: {}", e.getMessage(), e);
-            return false;
+            log.error("CSV 재동기화 중 오류 (변경 사항 롤백): {}", e.getMessage(), e);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return SyncReport.notDone();
         }
     }
 
     /** CSV 리소스 확인 후 시드 실행 (실제 시드 로직) */
-    private boolean runSeed() {
+    private SeedReport runSeed() {
         if (!resourceExists("data/goal_assist.csv")) {
             log.warn("CSV 리소스 없음: data/goal_assist.csv (JAR 내 resources/data/ 확인)");
-            return false;
+            return SeedReport.notDone();
         }
         try {
-            seedPlayersFromGoalAssist();
-            seedSeasonStatsFromDashboard();
-            seedMatchesFromResponse();
-            seedNextMatchFromAttendance();
-            log.info("CSV 기반 DB 시드 완료.");
-            return true;
+            long start = System.nanoTime();
+            SeedCounts counts = new SeedCounts();
+            Phase phase = new Phase("seed", "players");
+            Map<String, Long> playerIds = seedPlayersFromGoalAssist(counts);
+            phase.end(counts.players);
+            phase = new Phase("seed", "season-stats");
+            phase.end(seedSeasonStatsFromDashboard());
+            phase = new Phase("seed", "matches");
+            seedMatchesFromResponse(playerIds, counts);
+            phase.end(counts.matches + counts.attendances + counts.goalAssists);
+            phase = new Phase("seed", "next-match");
+            phase.end(seedNextMatchFromAttendance());
+            phase = new Phase("seed", "player-stats");
+            phase.end(playerStatsService.rebuild());
+            changeLog.recordReset();
+            SeedReport report = new SeedReport(true, counts.players, counts.matches, counts.attendances,
+                    counts.goalAssists, (System.nanoTime() - start) / 1_000_000);
+            log.info("CSV 기반 DB 시드 완료: {}행, {}ms ({}행/초)", report.rows(), report.elapsedMs(), report.rowsPerSecond());
+            return report;
         } catch (Exception e) {
             log.error("CSV 시드 중 오류 (하드코딩 데이터로 폴백 가능): {}", e.getMessage(), e);
-            return false;
+            return SeedReport.notDone();
+        }
+    }
+
+    /** 진행 중인 시드 단계 하나: 생성 시 시작, end 에서 타이머·JFR 이벤트 기록 (예외로 끝난 단계는 기록하지 않음) */
+    private final class Phase {
+        private final String operation;
+        private final String name;
+        private final long queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES);
+        private final Timer.Sample sample = Timer.start(meterRegistry);
+        private final JfrEvents.SeedPhase event = new JfrEvents.SeedPhase();
+
+        Phase(String operation, String name) {
+            this.operation = operation;
+            this.name = name;
+            event.begin();
+        }
+
+        void end(long rows) {
+            sample.stop(meterRegistry.timer("navi.seed.phase", "operation", operation, "phase", name));
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.phase = name;
+                event.rows = rows;
+                event.queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES) - queries;
+                event.commit();
+            }
         }
     }
 
@@ -104,27 +253,36 @@ public class CsvSeedService {
         }
     }
 
-    /** 골_도움.csv → 선수 등록 (헤더 BOM/공백 허용) */
-    private void seedPlayersFromGoalAssist() throws Exception {
+    /** 골_도움.csv → 선수 등록 (헤더 BOM/공백 허용). 기존 선수를 포함한 이름 → ID 맵 반환 */
+    private Map<String, Long> seedPlayersFromGoalAssist(SeedCounts counts) throws Exception {
+        Map<String, Long> playerIds = new HashMap<>();
+        playerRepository.findAll().forEach(p -> playerIds.put(p.getName(), p.getId()));
+        Set<String> newNames = new LinkedHashSet<>();
         ClassPathResource resource = new ClassPathResource("data/goal_assist.csv");
         try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
              CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT.builder().setHeader().build())) {
             for (CSVRecord record : parser) {
                 String name = getFirstColumnOrHeader(record, "선수명");
                 if (name == null || name.isEmpty()) continue;
-                playerRepository.findByName(name).orElseGet(() ->
-                        playerRepository.save(Player.builder().name(name).build()));
+                if (!playerIds.containsKey(name)) newNames.add(name);
             }
         }
+        List<Player> created = playerRepository.saveAll(newNames.stream()
+                .map(name -> Player.builder().name(name).build())
+                .toList());
+        created.forEach(p -> playerIds.put(p.getName(), p.getId()));
+        changeLog.record(ChangeLog.Type.PLAYER, created.stream().map(Player::getId).toList());
+        counts.players += created.size();
+        return playerIds;
     }
 
-    /** 대시보드.csv 4행 → 시즌 전적 (2경기 0승 0무 2패) */
-    private void seedSeasonStatsFromDashboard() throws Exception {
+    /** 대시보드.csv 4행 → 시즌 전적 (2경기 0승 0무 2패). 저장한 행 수 반환 */
+    private int seedSeasonStatsFromDashboard() throws Exception {
         ClassPathResource resource = new ClassPathResource("data/dashboard.csv");
         try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
              CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT)) {
             List<CSVRecord> records = parser.getRecords();
-            if (records.size() < 4) return;
+            if (records.size() < 4) return 0;
             CSVRecord row = records.get(3); // 4번째 줄 (0-based 3)
             int total = parseInt(row.get(0), 0);
             int wins = parseInt(row.get(2), 0);
@@ -137,54 +295,165 @@ public class CsvSeedService {
                     .draws(draws)
                     .losses(losses)
                     .build());
+            return 1;
         }
     }
 
-    /** 응답.csv → 경기 + 출석 + 골/도움 (헤더 BOM/공백 허용) */
-    private void seedMatchesFromResponse() throws Exception {
+    /** 응답.csv → 경기 + 출석 + 골/도움 (헤더 BOM/공백 허용, 선수는 이름 → ID 맵에서 찾음) */
+    private void seedMatchesFromResponse(Map<String, Long> playerIds, SeedCounts counts) throws Exception {
         ClassPathResource resource = new ClassPathResource("data/response.csv");
         try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
              CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT.builder().setHeader().build())) {
             for (CSVRecord record : parser) {
-                String dateStr = getColumn(record, "경기일", 1);
-                if (dateStr == null || dateStr.isEmpty()) continue;
-                LocalDate matchDate = parseDate(dateStr);
-                if (matchDate == null) continue;
-                String opponent = getColumn(record, "상대팀", 2);
-                int ourScore = parseInt(getColumn(record, "우리득점", 6), 0);
-                int opponentScore = parseInt(getColumn(record, "상대득점", 7), 0);
-                String result = getColumn(record, "판정", 8);
-
-                Match match = matchRepository.save(Match.builder()
-                        .matchDate(matchDate)
-                        .opponent(opponent)
-                        .ourScore(ourScore)
-                        .opponentScore(opponentScore)
-                        .result(result)
-                        .build());
-
-                // 참석자: "민성우, 김재린, ..." → 이름 리스트
-                String attendStr = getColumn(record, "참석자", 3);
-                if (attendStr != null) {
-                    List<String> attendNames = Arrays.stream(attendStr.split(","))
-                            .map(String::trim)
-                            .filter(s -> !s.isEmpty())
-                            .collect(Collectors.toList());
-                    for (String name : attendNames) {
-                        playerRepository.findByName(name).ifPresent(p ->
-                                attendanceRepository.save(MatchAttendance.builder()
-                                        .match(match)
-                                        .player(p)
-                                        .attended(true)
-                                        .build()));
-                    }
+                ResponseRow row = toResponseRow(record);
+                if (row == null) continue;
+                MatchRows rows = insertMatch(row, playerIds);
+                counts.matches++;
+                counts.attendances += rows.attendances().size();
+                counts.goalAssists += rows.goalAssists().size();
+                if (counts.matches % FLUSH_EVERY_MATCHES == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
                 }
-
-                // 골/도움 기록: "우형오 1도움\n장현규 1골" 형태 파싱
-                String goalAssistStr = getColumn(record, "골도움기록", 4);
-                parseGoalAssistLines(match, goalAssistStr != null ? goalAssistStr : "");
             }
         }
+        entityManager.flush();
+    }
+
+    /** 응답.csv 한 행 → ResponseRow (경기일이 없거나 형식이 맞지 않으면 null) */
+    private static ResponseRow toResponseRow(CSVRecord record) {
+        LocalDate matchDate = parseDate(getColumn(record, "경기일", 1));
+        if (matchDate == null) return null;
+        String timestamp = getColumn(record, "타임스탬프", 0);
+        String opponent = getColumn(record, "상대팀", 2);
+        int ourScore = parseInt(getColumn(record, "우리득점", 6), 0);
+        int opponentScore = parseInt(getColumn(record, "상대득점", 7), 0);
+        String result = getColumn(record, "판정", 8);
+        // 참석자: "민성우, 김재린, ..." → 이름 리스트
+        List<String> attendeeNames = Arrays.stream(getColumn(record, "참석자", 3).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+        // 골/도움 기록: "우형오 1도움\n장현규 1골" 형태
+        String goalAssistText = getColumn(record, "골도움기록", 4);
+        String key = timestamp + "|" + naturalKey(matchDate, opponent);
+        String hash = sha256(String.join("|", matchDate.toString(), opponent, String.valueOf(ourScore),
+                String.valueOf(opponentScore), result, String.join(",", attendeeNames), goalAssistText));
+        return new ResponseRow(key, hash, matchDate, opponent, ourScore, opponentScore, result, attendeeNames,
+                goalAssistText);
+    }
+
+    /**
+     * 키 없는 경기에 이 행의 키를 붙여도 되는지: CSV 출처면 그대로, 관리자 등록이면 불가,
+     * 출처 기록 전 경기는 점수·결과가 같을 때만 (같은 날 같은 상대로 관리자가 다르게 적어 둔 경기는 보호)
+     */
+    private static boolean adoptable(Match match, ResponseRow row) {
+        if (match.getSource() != null) return match.getSource() == Match.Source.CSV;
+        return match.getOurScore() == row.ourScore() && match.getOpponentScore() == row.opponentScore()
+                && Objects.equals(match.getResult(), row.result());
+    }
+
+    private static String naturalKey(LocalDate matchDate, String opponent) {
+        return matchDate + "|" + (opponent != null ? opponent : "");
+    }
+
+    private static String sha256(String s) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 응답 행으로 경기와 출석·골/도움 저장 */
+    private MatchRows insertMatch(ResponseRow row, Map<String, Long> playerIds) {
+        Match match = Match.builder()
+                .sourceKey(row.key())
+                .source(Match.Source.CSV)
+                .build();
+        applyRow(match, row);
+        match = matchRepository.save(match);
+        return saveMatchRows(match, row, playerIds);
+    }
+
+    /** 내용이 바뀐 응답 행: 경기 정보를 고치고 출석·골/도움은 통째로 교체 (선수별 누적은 빼고 다시 더함) */
+    private void replaceMatch(Match match, ResponseRow row, Map<String, Long> playerIds) {
+        deleteMatchChildren(match);
+        applyRow(match, row);
+        MatchRows rows = saveMatchRows(match, row, playerIds);
+        playerStatsService.applyMatch(row.matchDate().getYear(), rows.attendances(), rows.goalAssists(), 1);
+    }
+
+    /** CSV에서 사라진 경기 삭제 (선수별 누적에서도 뺌) */
+    private void deleteMatchRows(Match match) {
+        deleteMatchChildren(match);
+        matchRepository.delete(match);
+    }
+
+    /** 출석·골/도움을 ID만 읽어 누적에서 빼고 경기별 DELETE 한 문장씩으로 삭제 */
+    private void deleteMatchChildren(Match match) {
+        playerStatsService.applyRows(match.getMatchDate().getYear(), attendanceRepository.findRowsByMatchId(match.getId()),
+                goalAssistRepository.findRowsByMatchId(match.getId()), -1);
+        attendanceRepository.bulkDeleteByMatchId(match.getId());
+        goalAssistRepository.bulkDeleteByMatchId(match.getId());
+    }
+
+    private static void applyRow(Match match, ResponseRow row) {
+        match.setMatchDate(row.matchDate());
+        match.setOpponent(row.opponent());
+        match.setOurScore(row.ourScore());
+        match.setOpponentScore(row.opponentScore());
+        match.setResult(row.result());
+        match.setSourceHash(row.hash());
+    }
+
+    /** 참석자·골/도움 기록 저장 (선수는 이름 → ID 맵에서 찾고, 없는 이름은 건너뜀) */
+    private MatchRows saveMatchRows(Match match, ResponseRow row, Map<String, Long> playerIds) {
+        List<MatchAttendance> attendances = new ArrayList<>();
+        for (String name : row.attendeeNames()) {
+            Long playerId = playerIds.get(name);
+            if (playerId == null) continue;
+            attendances.add(MatchAttendance.builder()
+                    .match(match)
+                    .player(playerRepository.getReferenceById(playerId))
+                    .attended(true)
+                    .build());
+        }
+        Map<Long, MatchGoalAssist> goalAssistsByPlayer = new LinkedHashMap<>(); // 같은 선수가 여러 줄이면 한 행으로 합침
+        for (CsvCellParser.GoalAssist ga : CsvCellParser.parseGoalAssists(row.goalAssistText())) {
+            Long playerId = playerIds.get(ga.playerName());
+            if (playerId == null) continue;
+            MatchGoalAssist mga = goalAssistsByPlayer.computeIfAbsent(playerId, id -> MatchGoalAssist.builder()
+                    .match(match)
+                    .player(playerRepository.getReferenceById(id))
+                    .build());
+            mga.setGoals(mga.getGoals() + ga.goals());
+            mga.setAssists(mga.getAssists() + ga.assists());
+        }
+        List<MatchGoalAssist> goalAssists = new ArrayList<>(goalAssistsByPlayer.values());
+        attendanceRepository.saveAll(attendances);
+        goalAssistRepository.saveAll(goalAssists);
+        return new MatchRows(match, attendances, goalAssists);
+    }
+
+    /**
+     * 경기 테이블에서 시즌 전적을 다시 계산 (경기가 없어진 시즌은 0). 값이 바뀐 시즌 반환
+     * - 읽은 값으로 엔티티를 저장하지 않고 UPDATE 한 문장으로 계산하므로, 동기화 중 관리자 경기 저장의 증감이 유실되지 않음
+     */
+    private Set<Integer> recomputeSeasonStats() {
+        Map<Integer, List<Integer>> before = new HashMap<>();
+        seasonStatsRepository.findAll().forEach(s -> before.put(s.getSeasonYear(), resultCounts(s)));
+        matchRepository.findSeasonYears().forEach(seasonStatsRepository::insertIfAbsent);
+        seasonStatsRepository.recomputeAllFromMatches();
+        Set<Integer> changed = new HashSet<>();
+        for (SeasonStats stats : seasonStatsRepository.findAll()) {
+            if (!resultCounts(stats).equals(before.get(stats.getSeasonYear()))) changed.add(stats.getSeasonYear());
+        }
+        return changed;
+    }
+
+    private static List<Integer> resultCounts(SeasonStats stats) {
+        return List.of(stats.getTotalMatches(), stats.getWins(), stats.getDraws(), stats.getLosses());
     }
 
     /** BOM 등으로 헤더명이 안 맞을 수 있으므로, 컬럼명 또는 인덱스로 값 조회 */
@@ -215,83 +484,42 @@ public class CsvSeedService {
         return "";
     }
 
-    /** "선수명 N골" / "선수명 N도움" 줄 단위 파싱 */
-    private void parseGoalAssistLines(Match match, String text) {
-        if (text.isEmpty()) return;
-        for (String line : text.split("\n")) {
-            line = line.trim();
-            if (line.isEmpty()) continue;
-            // "장현규 1골", "우형오 1도움", "송민규 2골" 등
-            int idx = line.lastIndexOf(' ');
-            if (idx <= 0) continue;
-            final String playerName = line.substring(0, idx).trim();
-            String rest = line.substring(idx + 1).trim();
-            Matcher g = GOAL_PATTERN.matcher(rest);
-            Matcher a = ASSIST_PATTERN.matcher(rest);
-            final int goalCount = g.find() ? parseInt(g.group(1), 0) : 0;
-            final int assistCount = a.find() ? parseInt(a.group(1), 0) : 0;
-            if (!playerName.isEmpty() && (goalCount > 0 || assistCount > 0)) {
-                playerRepository.findByName(playerName).ifPresent(p ->
-                        goalAssistRepository.save(MatchGoalAssist.builder()
-                                .match(match)
-                                .player(p)
-                                .goals(goalCount)
-                                .assists(assistCount)
-                                .build()));
-            }
-        }
-    }
-
-    /** 출석.csv 1행에서 다음 경기일(2026.2.15 등) 추출 → NextMatch */
-    private void seedNextMatchFromAttendance() throws Exception {
+    /** 출석.csv 1행에서 다음 경기일(2026.2.15 등) 추출 → NextMatch. 저장한 행 수 반환 */
+    private int seedNextMatchFromAttendance() throws Exception {
         ClassPathResource resource = new ClassPathResource("data/attendance.csv");
         try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
              CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT)) {
             List<CSVRecord> records = parser.getRecords();
-            if (records.isEmpty()) return;
+            if (records.isEmpty()) return 0;
             CSVRecord firstRow = records.get(0);
             // 1행에서 모든 경기일 추출 후 가장 미래 날짜를 다음 경기로 사용
             LocalDate nextDate = null;
             for (int i = 0; i < firstRow.size(); i++) {
-                String cell = firstRow.get(i).trim();
-                if (cell.matches("\\d{4}\\.\\s*\\d{1,2}\\.\\s*\\d{1,2}") || cell.matches("\\d{4}\\.\\d{1,2}\\.\\d{1,2}")) {
-                    LocalDate d = parseDate(cell);
-                    if (d != null && (nextDate == null || d.isAfter(nextDate))) {
-                        nextDate = d;
-                    }
+                LocalDate d = parseDate(firstRow.get(i));
+                if (d != null && (nextDate == null || d.isAfter(nextDate))) {
+                    nextDate = d;
                 }
             }
             if (nextDate != null && nextMatchRepository.count() == 0) {
-                nextMatchRepository.save(NextMatch.builder()
+                NextMatch saved = nextMatchRepository.save(NextMatch.builder()
                         .matchDate(nextDate)
                         .matchTime(LocalTime.of(14, 0))
                         .opponent("다음 상대팀")
                         .venue("홈 경기장")
                         .memo("")
                         .build());
+                changeLog.record(ChangeLog.Type.NEXT_MATCH, saved.getId());
+                return 1;
             }
+            return 0;
         }
     }
 
-    private LocalDate parseDate(String s) {
-        if (s == null || s.isEmpty()) return null;
-        try {
-            return LocalDate.parse(s.trim().replace(" ", ""), DATE_FORMAT_NO_SPACE);
-        } catch (Exception e1) {
-            try {
-                return LocalDate.parse(s.trim(), DATE_FORMAT);
-            } catch (Exception e2) {
-                return null;
-            }
-        }
+    private static LocalDate parseDate(String s) {
+        return CsvCellParser.parseDate(s);
     }
 
     private static int parseInt(String s, int defaultValue) {
-        if (s == null || s.isEmpty()) return defaultValue;
-        try {
-            return Integer.parseInt(s.trim().replaceAll("[^0-9-]", ""));
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
+        return CsvCellParser.parseInt(s, defaultValue);
     }
 }
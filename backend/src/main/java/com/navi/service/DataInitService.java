@@ -30,14 +30,19 @@ public class DataInitService implements ApplicationRunner {
     private final MatchGoalAssistRepository goalAssistRepository;
     private final MatchAttendanceRepository attendanceRepository;
     private final NextMatchRepository nextMatchRepository;
+    private final PlayerStatsService playerStatsService;
+    private final ChangeLogService changeLog;
 
     @Override
     @Transactional
     public void run(ApplicationArguments args) {
-        if (seasonStatsRepository.count() > 0) return;
+        if (seasonStatsRepository.count() > 0) {
+            playerStatsService.rebuildIfEmpty();
+            return;
+        }
 
         try {
-            if (csvSeedService.seedIfEmpty()) return;
+            if (csvSeedService.seedIfEmpty().done()) return;
         } catch (Exception e) {
             log.warn("CSV 시드 실패, 하드코딩 데이터로 진행합니다: {}", e.getMessage());
         }
@@ -68,6 +73,7 @@ public class DataInitService implements ApplicationRunner {
                 .ourScore(1)
                 .opponentScore(4)
                 .result("패")
+                .source(Match.Source.CSV) // 응답.csv 첫 두 행과 같은 경기 (재동기화 시 행 키를 붙여 이어 씀)
                 .build());
         addGoalAssist(m1, "장현규", 1, 0);
         addGoalAssist(m1, "우형오", 0, 1);
@@ -81,6 +87,7 @@ public class DataInitService implements ApplicationRunner {
                 .ourScore(2)
                 .opponentScore(4)
                 .result("패")
+                .source(Match.Source.CSV) // 응답.csv 첫 두 행과 같은 경기 (재동기화 시 행 키를 붙여 이어 씀)
                 .build());
         addGoalAssist(m2, "송민규", 2, 0);
         addGoalAssist(m2, "박성준", 0, 1);
@@ -98,6 +105,8 @@ public class DataInitService implements ApplicationRunner {
                     .memo("")
                     .build());
         }
+        playerStatsService.rebuild();
+        changeLog.recordReset();
     }
 
     private void addGoalAssist(Match match, String playerName, int goals, int assists) {
@@ -0,0 +1,61 @@
+package com.navi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 데이터 버전 (조건부 GET 의 ETag / Last-Modified 기준)
+ * - 기동 시각(ms)에서 시작해 스냅샷이 교체될 때마다 1씩 증가 (재기동 후 이전 ETag 와 겹치지 않음)
+ * - 커밋 시점이 아니라 스냅샷 교체 이후에 올리므로, 응답 데이터가 ETag 보다 오래된 경우는 없음
+ * - 버전과 변경 시각은 한 Stamp 로 함께 바뀌어, 읽는 쪽이 서로 다른 세대의 값을 섞지 않음
+ */
+@Slf4j
+@Component
+public class DataVersion {
+
+    /** 한 세대의 버전과 그 세대로 바뀐 시각 (epoch ms) */
+    public record Stamp(long version, long lastModified) {
+
+        /** 강한 ETag 값 (따옴표 포함) */
+        public String eTag() {
+            return "\"" + version + "\"";
+        }
+
+        /**
+         * Last-Modified 로 내려도 되는지: HTTP 날짜는 초 단위라 마지막 변경과 같은 초에 내려주면
+         * 그 초 안에 이어진 변경을 If-Modified-Since 로 구분하지 못함. 그 초가 지난 뒤에만 true
+         */
+        public boolean lastModifiedSettled(long now) {
+            return now / 1000 > lastModified / 1000;
+        }
+    }
+
+    private final AtomicReference<Stamp> stamp;
+
+    public DataVersion() {
+        long now = System.currentTimeMillis();
+        this.stamp = new AtomicReference<>(new Stamp(now, now));
+    }
+
+    /** 스냅샷 교체 직후 (응답 캐시 비우기·순위 변경 알림보다 먼저) */
+    @Order(5)
+    @EventListener
+    public void onSnapshotRefreshed(SnapshotRefreshedEvent event) {
+        long now = System.currentTimeMillis();
+        Stamp next = stamp.updateAndGet(s -> new Stamp(s.version() + 1, now));
+        log.debug("데이터 버전 {} (스냅샷 {})", next.version(), event.snapshotVersion());
+    }
+
+    /** 현재 버전과 변경 시각 (응답 본문을 만들기 전에 읽어야 본문이 이보다 오래되지 않음) */
+    public Stamp stamp() {
+        return stamp.get();
+    }
+
+    public long current() {
+        return stamp.get().version();
+    }
+}
@@ -0,0 +1,149 @@
+package com.navi.service;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자 요청 시 JFR 녹화 (Navi 이벤트 + CPU 샘플링·부하, GC, 할당 샘플만)
+ * - JVM 기본 설정("default"/"profile")은 환경 변수·시스템 속성·JVM 인자 이벤트까지 남기므로 쓰지 않고,
+ *   켤 이벤트를 직접 지정한 뒤 내려줄 때도 허용 목록의 이벤트만 남김
+ * - 녹화는 예약 스레드가 시간이 되면 멈추고 .jfr 내용으로 future 를 완료 (요청 스레드는 기다리지 않음)
+ * - 동시에 하나만 녹화 (녹화 중 요청은 거절), navi.jfr.token 이 비어 있으면 녹화 불가
+ */
+@Slf4j
+@Service
+public class FlightRecorderService {
+
+    public static final int MAX_SECONDS = 300;
+
+    /** 녹화·내려받기를 허용하는 JVM 이벤트 */
+    private static final Set<String> JVM_EVENTS = Set.of(
+            "jdk.ExecutionSample", "jdk.CPULoad", "jdk.ThreadCPULoad",
+            "jdk.GarbageCollection", "jdk.YoungGarbageCollection", "jdk.OldGarbageCollection",
+            "jdk.GCPhasePause", "jdk.GCHeapSummary", "jdk.ObjectAllocationSample");
+    private static final List<Class<? extends Event>> NAVI_EVENTS = List.of(
+            JfrEvents.Home.class, JfrEvents.Ranking.class, JfrEvents.PlayerDetail.class, JfrEvents.SeedPhase.class);
+    private static final String NAVI_EVENT_PREFIX = "com.navi.";
+
+    private final byte[] token;
+    private final AtomicBoolean recording = new AtomicBoolean();
+    private final ScheduledExecutorService stopper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "navi-jfr");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FlightRecorderService(@Value("${navi.jfr.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 녹화 요청의 토큰이 설정값과 같은지 (설정이 비어 있으면 항상 false, 비교는 일정 시간) */
+    public boolean authorized(String requestToken) {
+        if (token.length == 0 || requestToken == null) return false;
+        return MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 녹화 시작. 녹화가 끝나면 .jfr 파일 내용으로 완료되는 future 반환
+     * @param seconds 녹화 시간 (1 ~ MAX_SECONDS 로 맞춤)
+     * @param profile true 면 메서드 샘플링·할당 샘플을 촘촘히
+     * @throws IllegalStateException 이미 녹화 중
+     */
+    public CompletableFuture<byte[]> start(int seconds, boolean profile) {
+        if (!recording.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 JFR 녹화가 진행 중입니다.");
+        }
+        Recording rec = null;
+        try {
+            rec = new Recording(settings(profile));
+            rec.setName("navi-admin");
+            NAVI_EVENTS.forEach(rec::enable);
+            Duration duration = Duration.ofSeconds(Math.max(1, Math.min(seconds, MAX_SECONDS)));
+            rec.start();
+            log.info("JFR 녹화 시작: {}초 ({})", duration.toSeconds(), profile ? "profile" : "default");
+            CompletableFuture<byte[]> result = new CompletableFuture<>();
+            Recording started = rec;
+            stopper.schedule(() -> finish(started, result), duration.toMillis(), TimeUnit.MILLISECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            if (rec != null) rec.close();
+            recording.set(false);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopper.shutdownNow();
+    }
+
+    /** 녹화를 멈추고 허용 목록의 이벤트만 남긴 파일 내용으로 완료 (임시 파일은 항상 지우고 녹화 잠금도 항상 풂) */
+    private void finish(Recording rec, CompletableFuture<byte[]> result) {
+        Path raw = null;
+        Path filtered = null;
+        try (rec) {
+            raw = Files.createTempFile("navi-", ".jfr");
+            filtered = Files.createTempFile("navi-filtered-", ".jfr");
+            rec.stop();
+            rec.dump(raw);
+            try (RecordingFile file = new RecordingFile(raw)) {
+                file.write(filtered, event -> allowed(event.getEventType().getName()));
+            }
+            result.complete(Files.readAllBytes(filtered));
+        } catch (IOException | RuntimeException e) {
+            log.warn("JFR 녹화 저장 실패: {}", e.getMessage());
+            result.completeExceptionally(e);
+        } finally {
+            deleteQuietly(raw);
+            deleteQuietly(filtered);
+            recording.set(false);
+        }
+    }
+
+    private static boolean allowed(String eventName) {
+        return eventName.startsWith(NAVI_EVENT_PREFIX) || JVM_EVENTS.contains(eventName);
+    }
+
+    /** JVM 이벤트 설정 (JDK default.jfc / profile.jfc 의 해당 항목과 같은 값) */
+    private static Map<String, String> settings(boolean profile) {
+        Map<String, String> settings = new HashMap<>();
+        JVM_EVENTS.forEach(name -> settings.put(name + "#enabled", "true"));
+        settings.put("jdk.ExecutionSample#period", profile ? "10 ms" : "20 ms");
+        settings.put("jdk.CPULoad#period", "1 s");
+        settings.put("jdk.ThreadCPULoad#period", "10 s");
+        settings.put("jdk.GarbageCollection#threshold", "0 ms");
+        settings.put("jdk.GCPhasePause#threshold", "0 ms");
+        settings.put("jdk.ObjectAllocationSample#throttle", profile ? "300/s" : "150/s");
+        return settings;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("JFR 임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
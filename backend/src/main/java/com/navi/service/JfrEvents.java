@@ -0,0 +1,84 @@
+package com.navi.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 서비스 구간 JFR(Java Flight Recorder) 이벤트 (카테고리 Navi)
+ * - 지속 시간은 이벤트에 기록되고, 행 수·같은 스레드의 SQL 문장 수(HibernateRequestStats)를 함께 담음
+ * - 호출부는 begin → 작업 → shouldCommit() 일 때만 필드 계산 후 commit. 녹화 중이 아니면 shouldCommit() 이 false 라 비용이 거의 없음
+ * - 녹화는 POST /api/admin/jfr (FlightRecorderService) 또는 jcmd {pid} JFR.start
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    @Name("com.navi.Home")
+    @Label("Home")
+    @Category({"Navi", "Service"})
+    @Description("NaviService.getHome (응답 캐시 미스 시)")
+    static final class Home extends Event {
+        @Label("Season")
+        String season;
+        @Label("Ranking Rows")
+        int rankingRows;
+        @Label("Queries")
+        long queries;
+    }
+
+    @Name("com.navi.Ranking")
+    @Label("Ranking")
+    @Category({"Navi", "Service"})
+    @Description("RankingCalculator 순위 계산 (스냅샷 조립 시)")
+    static final class Ranking extends Event {
+        @Label("Kind")
+        String kind;
+        @Label("Players")
+        int players;
+        @Label("Limit")
+        int limit;
+        @Label("Ranking Rows")
+        int rows;
+    }
+
+    @Name("com.navi.PlayerDetail")
+    @Label("Player Detail")
+    @Category({"Navi", "Service"})
+    @Description("NaviService.getPlayerDetail (응답 캐시 미스 시)")
+    static final class PlayerDetail extends Event {
+        @Label("Player")
+        String player;
+        @Label("Season")
+        String season;
+        @Label("Found")
+        boolean found;
+        @Label("Match Rows")
+        int matchRows;
+        @Label("Queries")
+        long queries;
+    }
+
+    @Name("com.navi.SeedPhase")
+    @Label("Seed Phase")
+    @Category({"Navi", "Seed"})
+    @Description("CsvSeedService 시드·재동기화 단계")
+    static final class SeedPhase extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Phase")
+        String phase;
+        @Label("Rows")
+        long rows;
+        @Label("Queries")
+        long queries;
+    }
+
+    /** 시즌 파라미터 표시값 (null 이면 전체 시즌) */
+    static String season(Integer season) {
+        return season != null ? season.toString() : "all";
+    }
+}
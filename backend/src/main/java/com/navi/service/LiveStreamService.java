@@ -0,0 +1,246 @@
+package com.navi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navi.dto.RankingDeltaDto;
+import com.navi.dto.RankingDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실시간 스트림(SSE, GET /api/stream) 구독자 관리와 전송
+ * - 쓰기 커밋 후 StreamEvent(경기 등록·수정·삭제, 출석, 골/도움)를 그대로 보내고,
+ *   스냅샷 갱신 후에는 전체 시즌 순위를 직전 순위와 비교해 바뀐 선수만 ranking 이벤트로 보냄 (DB 조회 없음)
+ * - 구독자는 서블릿 비동기 응답이라 대기 중에는 스레드를 잡지 않음. 이벤트는 한 번만 직렬화해 구독자별 큐에 넣고,
+ *   보낼 것이 있는 구독자마다 가상 스레드 하나가 차례로 전송 (커밋한 요청 스레드는 기다리지 않고, 구독자 간 이벤트 순서는 같음)
+ * - 느린 구독자는 자기 큐만 밀림. 큐(queue-size)가 넘치면 그 구독자를 끊음 (브라우저가 재연결 후 증분 동기화로 따라잡음)
+ * - 일정 간격으로 하트비트 주석을 보내 프록시 유휴 끊김을 막고, 끊긴 구독자는 전송 실패 시 정리
+ */
+@Slf4j
+@Component
+public class LiveStreamService {
+
+    private static final String[] RANKING_KINDS = {"goal", "assist", "attendance"};
+
+    private final SeasonReadModel readModel;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int queueSize;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    /** 구독자별 전송 작업 (보낼 것이 있을 때만 가상 스레드 하나) */
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("navi-stream-", 0).factory());
+    private final AtomicLong eventIds = new AtomicLong();
+    /** 이벤트 ID 부여와 큐 넣기를 한 번에 (모든 구독자 큐에 같은 순서로 들어가도록, 넣기만 하므로 짧게 잡힘) */
+    private final ReentrantLock fanoutLock = new ReentrantLock();
+    /** 마지막으로 알린 전체 시즌 순위 (종류 → 순위). rankingLock 안에서만 읽고 바꿈 */
+    private final ReentrantLock rankingLock = new ReentrantLock();
+    private Map<String, List<RankingDto>> lastRankings;
+
+    public LiveStreamService(SeasonReadModel readModel, ObjectMapper objectMapper,
+                             @Value("${navi.stream.timeout-ms:1800000}") long timeoutMs,
+                             @Value("${navi.stream.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${navi.stream.queue-size:64}") int queueSize) {
+        this.readModel = readModel;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.queueSize = queueSize;
+    }
+
+    /** 구독자 하나: 아직 보내지 못한 프레임 큐와, 그 큐를 비우는 전송 작업이 돌고 있는지 */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /** 큐에 넣고 전송 작업이 없으면 시작. 큐가 가득 차면 끊음 */
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                log.debug("스트림 구독자 큐 초과 ({}건), 연결 끊음", queueSize);
+                drop(null);
+                return;
+            }
+            if (sending.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        /** 큐가 빌 때까지 전송 (비운 뒤 들어온 프레임은 이 작업이나 다음 offer 가 이어서 보냄) */
+        private void drain() {
+            while (true) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while ((frame = queue.poll()) != null) {
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException e) { // 끊긴 연결
+                        drop(e);
+                        return;
+                    }
+                }
+                sending.set(false);
+                if (queue.isEmpty() || !sending.compareAndSet(false, true)) return;
+            }
+        }
+
+        private void drop(Throwable cause) {
+            subscribers.remove(this);
+            queue.clear();
+            if (cause != null) emitter.completeWithError(cause);
+            else emitter.complete();
+        }
+    }
+
+    /** 새 구독 (연결 시간이 다 되면 끊기며, 브라우저 EventSource 는 자동으로 다시 연결). 정원이 차면 null */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) return null;
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        try { // 응답 헤더를 바로 내보내고 재연결 간격 지정
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(3000));
+        } catch (IOException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /** 기동 완료 시 순위 비교 기준 설정 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rankingLock.lock();
+        try {
+            if (lastRankings == null) lastRankings = rankingsOf(readModel.current());
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    /** 쓰기 커밋 후 변경 한 건 전송 (롤백되면 보내지 않음) */
+    @Order(20)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStreamEvent(StreamEvent event) {
+        broadcast(event.name(), event.data());
+    }
+
+    /** 스냅샷 교체 직후, 전체 시즌 순위에서 바뀐 선수만 전송 */
+    @Order(30)
+    @EventListener
+    public void onSnapshotRefreshed(SnapshotRefreshedEvent event) {
+        List<RankingDeltaDto> deltas = new ArrayList<>();
+        rankingLock.lock();
+        try {
+            Map<String, List<RankingDto>> rankings = rankingsOf(readModel.current());
+            if (lastRankings != null) {
+                for (String kind : RANKING_KINDS) {
+                    RankingDeltaDto delta = diff(kind, lastRankings.get(kind), rankings.get(kind));
+                    if (delta != null) deltas.add(delta);
+                }
+            }
+            lastRankings = rankings;
+        } finally {
+            rankingLock.unlock();
+        }
+        if (!deltas.isEmpty()) broadcast("ranking", deltas);
+    }
+
+    /** 하트비트 (구독자가 없으면 건너뜀) */
+    @Scheduled(fixedDelayString = "${navi.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) return;
+        sendToAll(SseEmitter.event().comment("heartbeat").build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+    }
+
+    private void broadcast(String name, Object data) {
+        if (subscribers.isEmpty()) return;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.warn("스트림 이벤트 직렬화 실패 ({}): {}", name, e.getMessage());
+            return;
+        }
+        fanoutLock.lock();
+        try {
+            sendToAll(SseEmitter.event()
+                    .id(String.valueOf(eventIds.incrementAndGet()))
+                    .name(name)
+                    .data(json)
+                    .build());
+        } finally {
+            fanoutLock.unlock();
+        }
+    }
+
+    /** 모든 구독자 큐에 넣기만 함 (호출한 스레드는 전송을 기다리지 않음) */
+    private void sendToAll(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        fanoutLock.lock();
+        try {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        } finally {
+            fanoutLock.unlock();
+        }
+    }
+
+    private static Map<String, List<RankingDto>> rankingsOf(SeasonSnapshot snapshot) {
+        return Map.of("goal", snapshot.getGoalRanking(),
+                "assist", snapshot.getAssistRanking(),
+                "attendance", snapshot.getAttendanceRanking());
+    }
+
+    /** 순위·수치가 바뀌었거나 새로 들어온 선수, 빠진 선수 (변화 없으면 null) */
+    private static RankingDeltaDto diff(String kind, List<RankingDto> before, List<RankingDto> after) {
+        Map<String, RankingDto> previous = new HashMap<>();
+        before.forEach(r -> previous.put(r.getPlayerName(), r));
+        List<RankingDto> changed = new ArrayList<>();
+        for (RankingDto r : after) {
+            if (!r.equals(previous.remove(r.getPlayerName()))) changed.add(r);
+        }
+        if (changed.isEmpty() && previous.isEmpty()) return null;
+        return RankingDeltaDto.builder()
+                .kind(kind)
+                .changed(changed)
+                .removed(List.copyOf(previous.keySet()))
+                .build();
+    }
+}
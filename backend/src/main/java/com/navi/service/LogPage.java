@@ -0,0 +1,9 @@
+package com.navi.service;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 결과 (다음 페이지가 없으면 nextCursor 는 null)
+ */
+public record LogPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,26 @@
+package com.navi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 경기 목록 키셋 페이지 커서 (경기일, 경기 ID). 클라이언트에는 불투명 문자열로 전달
+ */
+public record MatchCursor(LocalDate matchDate, Long id) {
+
+    public String encode() {
+        String raw = matchDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MatchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf('|');
+            return new MatchCursor(LocalDate.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
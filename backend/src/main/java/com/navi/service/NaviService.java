@@ -1,61 +1,90 @@
 package com.navi.service;
 
+import com.navi.config.CacheConfig;
+import com.navi.config.HibernateRequestStats;
 import com.navi.dto.*;
 import com.navi.entity.*;
 import com.navi.repository.*;
-import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 홈/순위/경기/골/도움/출석 데이터 조회
+ * - 조회는 SeasonReadModel 스냅샷에서 응답(공개 조회는 응답 캐시 경유), 쓰기는 DB 반영 후 스냅샷 갱신 이벤트 발행
+ * - 경기·출석·골/도움 쓰기는 실시간 스트림용 StreamEvent 도 발행 (커밋 후 LiveStreamService 가 전송)
+ * - 공개 메서드마다 navi.service 타이머 기록 (태그: class, method, exception)
  */
 @Service
+@Timed(value = "navi.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NaviService {
 
+    /** 키셋 페이지 최대 크기 */
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final SeasonStatsRepository seasonStatsRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
     private final PlayerRepository playerRepository;
     private final MatchRepository matchRepository;
     private final MatchGoalAssistRepository goalAssistRepository;
     private final MatchAttendanceRepository attendanceRepository;
     private final NextMatchRepository nextMatchRepository;
-    private final EntityManager entityManager;
-
-    /** 홈 화면: 시즌 전적 + 다음 경기 + 득점/도움/출석 순위 */
-    public HomeResponseDto getHome() {
-        SeasonStatsDto season = getSeasonStats();
-        List<NextMatchDto> nextMatches = getNextMatches();
-        List<RankingDto> goalRanking = getGoalRanking();
-        List<RankingDto> assistRanking = getAssistRanking();
-        List<RankingDto> attendanceRanking = getAttendanceRanking();
-        return HomeResponseDto.builder()
-                .seasonStats(season)
-                .nextMatches(nextMatches)
-                .goalRanking(goalRanking)
-                .assistRanking(assistRanking)
-                .attendanceRanking(attendanceRanking)
+    private final PlayerStatsService playerStatsService;
+    private final ChangeLogService changeLog;
+    private final SeasonReadModel readModel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 홈 화면: 시즌 전적 + 다음 경기 + 득점/도움/출석 순위
+     * @param season 시즌 연도 (null 이면 최근 시즌 전적 + 전체 시즌 누적 순위)
+     * @param limit 순위별 상위 인원 (limit 번째와 동점인 선수는 모두 포함). null 이면 스냅샷에 미리 계산된 전체 순위,
+     *              있으면 스냅샷의 선수별 합계에서 상위 limit 명만 골라 계산
+     */
+    @Cacheable(cacheNames = CacheConfig.HOME, keyGenerator = "snapshotKeyGenerator")
+    public HomeResponseDto getHome(Integer season, Integer limit) {
+        JfrEvents.Home event = new JfrEvents.Home();
+        long queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES);
+        event.begin();
+        SeasonSnapshot snapshot = readModel.season(season);
+        int top = limit != null ? Math.max(limit, 1) : RankingCalculator.UNLIMITED;
+        HomeResponseDto home = HomeResponseDto.builder()
+                .seasonStats(snapshot.getSeasonStats())
+                .nextMatches(snapshot.getNextMatches())
+                .goalRanking(limit != null
+                        ? RankingCalculator.goalRanking(snapshot.getTotals(), top) : snapshot.getGoalRanking())
+                .assistRanking(limit != null
+                        ? RankingCalculator.assistRanking(snapshot.getTotals(), top) : snapshot.getAssistRanking())
+                .attendanceRanking(limit != null
+                        ? RankingCalculator.attendanceRanking(snapshot.getTotals(), top) : snapshot.getAttendanceRanking())
                 .build();
+        if (event.shouldCommit()) {
+            event.season = JfrEvents.season(season);
+            event.rankingRows = home.getGoalRanking().size() + home.getAssistRanking().size()
+                    + home.getAttendanceRanking().size();
+            event.queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES) - queries;
+            event.commit();
+        }
+        return home;
+    }
+
+    /** 기록이 있는 시즌 목록 (최근 시즌부터, 시즌별 전적 포함) */
+    public List<SeasonStatsDto> getSeasons() {
+        return readModel.seasons();
     }
 
     /** 다음 경기 목록 (경기일 오름차순) - 홈 화면 및 관리자 목록용 */
     public List<NextMatchDto> getNextMatches() {
-        return nextMatchRepository.findAllByOrderByMatchDateAsc().stream()
-                .map(m -> NextMatchDto.builder()
-                        .id(m.getId())
-                        .matchDate(m.getMatchDate())
-                        .matchTime(m.getMatchTime())
-                        .opponent(m.getOpponent())
-                        .venue(m.getVenue())
-                        .memo(m.getMemo())
-                        .build())
-                .toList();
+        return readModel.current().getNextMatches();
     }
 
     /** 다음 경기 등록 */
@@ -73,6 +102,8 @@ public class NaviService {
                 .memo(req.getMemo() != null && !req.getMemo().isBlank() ? req.getMemo().trim() : null)
                 .build();
         NextMatch saved = nextMatchRepository.save(entity);
+        changeLog.record(ChangeLog.Type.NEXT_MATCH, saved.getId());
+        eventPublisher.publishEvent(SeasonDataChangedEvent.common("next-match"));
         return NextMatchDto.builder()
                 .id(saved.getId())
                 .matchDate(saved.getMatchDate())
@@ -98,6 +129,8 @@ public class NaviService {
         entity.setVenue(req.getVenue() != null && !req.getVenue().isBlank() ? req.getVenue().trim() : null);
         entity.setMemo(req.getMemo() != null && !req.getMemo().isBlank() ? req.getMemo().trim() : null);
         NextMatch saved = nextMatchRepository.save(entity);
+        changeLog.record(ChangeLog.Type.NEXT_MATCH, saved.getId());
+        eventPublisher.publishEvent(SeasonDataChangedEvent.common("next-match"));
         return NextMatchDto.builder()
                 .id(saved.getId())
                 .matchDate(saved.getMatchDate())
@@ -115,173 +148,124 @@ public class NaviService {
             throw new IllegalArgumentException("다음 경기를 찾을 수 없습니다.");
         }
         nextMatchRepository.deleteById(id);
+        changeLog.record(ChangeLog.Type.NEXT_MATCH, id);
+        eventPublisher.publishEvent(SeasonDataChangedEvent.common("next-match"));
     }
 
-    private SeasonStatsDto getSeasonStats() {
-        return seasonStatsRepository.findTopByOrderBySeasonYearDesc()
-                .map(s -> SeasonStatsDto.builder()
-                        .seasonYear(s.getSeasonYear())
-                        .totalMatches(s.getTotalMatches())
-                        .wins(s.getWins())
-                        .draws(s.getDraws())
-                        .losses(s.getLosses())
-                        .build())
-                .orElse(SeasonStatsDto.builder()
-                        .seasonYear(java.time.Year.now().getValue())
-                        .totalMatches(0).wins(0).draws(0).losses(0)
-                        .build());
+    /** 전체 경기 목록 (season 이 있으면 그 시즌만) */
+    @Cacheable(cacheNames = CacheConfig.MATCHES, keyGenerator = "snapshotKeyGenerator")
+    public List<MatchDto> getAllMatches(Integer season) {
+        return readModel.season(season).getMatches();
     }
 
-    /** 선수별 총 골 수 집계 후 순위 */
-    private List<RankingDto> getGoalRanking() {
-        Map<Long, Integer> playerGoals = new HashMap<>();
-        goalAssistRepository.findAll().forEach(mga -> {
-            Long pid = mga.getPlayer().getId();
-            playerGoals.merge(pid, mga.getGoals(), Integer::sum);
-        });
-        return toRankingList(playerGoals, true);
+    /** 골 탭: 경기별 골/도움 로그 (골 있음 위주) */
+    @Cacheable(cacheNames = CacheConfig.GOAL_LOGS, keyGenerator = "snapshotKeyGenerator")
+    public List<GoalAssistLogDto> getGoalLogs(Integer season) {
+        return readModel.season(season).getGoalLogs();
     }
 
-    /** 선수별 총 도움 수 집계 후 순위 */
-    private List<RankingDto> getAssistRanking() {
-        Map<Long, Integer> playerAssists = new HashMap<>();
-        goalAssistRepository.findAll().forEach(mga -> {
-            Long pid = mga.getPlayer().getId();
-            playerAssists.merge(pid, mga.getAssists(), Integer::sum);
-        });
-        return toRankingList(playerAssists, true);
+    /** 전체 경기 목록: 기간 필터 + 키셋 페이지 (limit 이 null 이면 기간 안 전체) */
+    public LogPage<MatchDto> getMatches(Integer season, LocalDate from, LocalDate to, String cursor, Integer limit) {
+        SeasonSnapshot snapshot = readModel.season(season);
+        return page(snapshot, from, to, cursor, limit, matches -> matches);
     }
 
-    /** 선수별 출석 횟수 집계 후 순위 */
-    private List<RankingDto> getAttendanceRanking() {
-        Map<Long, Integer> playerAttendance = new HashMap<>();
-        attendanceRepository.findAll().stream()
-                .filter(MatchAttendance::isAttended)
-                .forEach(ma -> {
-                    Long pid = ma.getPlayer().getId();
-                    playerAttendance.merge(pid, 1, Integer::sum);
-                });
-        return toRankingList(playerAttendance, true);
+    /** 골/도움 탭: 기간 필터 + 키셋 페이지 (limit 은 경기 수 기준) */
+    public LogPage<GoalAssistLogDto> getGoalLogs(Integer season, LocalDate from, LocalDate to, String cursor, Integer limit) {
+        SeasonSnapshot snapshot = readModel.season(season);
+        return page(snapshot, from, to, cursor, limit, snapshot::goalLogsOf);
     }
 
-    /** 값이 같으면 동일 순위 부여 (1,2,3위는 프론트에서 금색 표시) */
-    private List<RankingDto> toRankingList(Map<Long, Integer> playerToValue, boolean descending) {
-        List<Map.Entry<Long, Integer>> sorted = playerToValue.entrySet().stream()
-                .sorted(descending
-                        ? Map.Entry.<Long, Integer>comparingByValue().reversed()
-                        : Map.Entry.comparingByValue())
-                .toList();
-        Map<Long, String> idToName = new HashMap<>();
-        playerRepository.findAll().forEach(p -> idToName.put(p.getId(), p.getName()));
-        List<RankingDto> result = new ArrayList<>();
-        int rank = 1;
-        Integer prevValue = null;
-        for (Map.Entry<Long, Integer> e : sorted) {
-            int value = e.getValue();
-            if (prevValue != null && value != prevValue) {
-                rank = result.size() + 1;
-            }
-            result.add(RankingDto.builder()
-                    .rank(rank)
-                    .playerName(idToName.getOrDefault(e.getKey(), "?"))
-                    .value(value)
-                    .build());
-            prevValue = value;
-        }
-        return result;
-    }
-
-    /** 전체 경기 목록 */
-    public List<MatchDto> getAllMatches() {
-        return matchRepository.findAllByOrderByMatchDateDesc().stream()
-                .map(m -> MatchDto.builder()
-                        .id(m.getId())
-                        .matchDate(m.getMatchDate())
-                        .matchTime(m.getMatchTime())
-                        .opponent(m.getOpponent())
-                        .ourScore(m.getOurScore())
-                        .opponentScore(m.getOpponentScore())
-                        .result(m.getResult())
-                        .build())
-                .toList();
+    /** 출석 탭: 기간 필터 + 키셋 페이지 (limit 은 경기 수 기준) */
+    public LogPage<AttendanceLogDto> getAttendanceLogs(Integer season, LocalDate from, LocalDate to, String cursor,
+                                                       Integer limit) {
+        SeasonSnapshot snapshot = readModel.season(season);
+        return page(snapshot, from, to, cursor, limit, snapshot::attendanceLogsOf);
     }
 
-    /** 골 탭: 경기별 골/도움 로그 (골 있음 위주) */
-    public List<GoalAssistLogDto> getGoalLogs() {
-        List<GoalAssistLogDto> list = new ArrayList<>();
-        for (Match m : matchRepository.findAllByOrderByMatchDateDesc()) {
-            goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(m.getId()).stream()
-                    .filter(mga -> mga.getGoals() > 0 || mga.getAssists() > 0)
-                    .forEach(mga -> list.add(GoalAssistLogDto.builder()
-                            .matchId(m.getId())
-                            .matchDate(m.getMatchDate())
-                            .opponent(m.getOpponent())
-                            .playerName(mga.getPlayer().getName())
-                            .goals(mga.getGoals())
-                            .assists(mga.getAssists())
-                            .build()));
+    /** 경기 키셋 페이지를 구해 로그로 변환. 한 건 더 읽어 다음 페이지 유무 판단 */
+    private <T> LogPage<T> page(SeasonSnapshot snapshot, LocalDate from, LocalDate to, String cursor, Integer limit,
+                                Function<List<MatchDto>, List<T>> toLogs) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        MatchCursor after = cursor != null && !cursor.isBlank() ? MatchCursor.decode(cursor) : null;
+        int size = limit != null ? Math.min(Math.max(limit, 1), MAX_PAGE_SIZE) : Integer.MAX_VALUE - 1;
+        List<MatchDto> matches = snapshot.matchesBetween(from, to, after, size + 1);
+        String nextCursor = null;
+        if (matches.size() > size) {
+            matches = matches.subList(0, size);
+            MatchDto last = matches.get(size - 1);
+            nextCursor = new MatchCursor(last.getMatchDate(), last.getId()).encode();
         }
-        return list;
+        return new LogPage<>(toLogs.apply(matches), nextCursor);
     }
 
     /** 도움 탭: 동일 로그 (도움 있음도 포함되어 있음) */
-    public List<GoalAssistLogDto> getAssistLogs() {
-        return getGoalLogs();
+    public List<GoalAssistLogDto> getAssistLogs(Integer season) {
+        return getGoalLogs(season);
     }
 
-    /** 선수 상세 정보 (출석, 골, 도움, 전화번호 + 참가한 경기별 기록) */
-    public Optional<PlayerDetailDto> getPlayerDetail(String playerName) {
+    /**
+     * 선수 상세 정보 (출석, 골, 도움, 전화번호 + 참가한 경기별 기록, 선수별 색인으로 해당 선수 기록만 조회)
+     * @param season 시즌 연도 (null 이면 전체 시즌 누적)
+     */
+    @Cacheable(cacheNames = CacheConfig.PLAYER_DETAIL, keyGenerator = "snapshotKeyGenerator")
+    public Optional<PlayerDetailDto> getPlayerDetail(String playerName, Integer season) {
         if (playerName == null || playerName.isBlank()) return Optional.empty();
-        return playerRepository.findByName(playerName.trim())
-                .map(player -> {
-                    long playerId = player.getId();
-                    // 경기별 골/어시 (선수 기준)
-                    Map<Long, MatchGoalAssist> gaByMatch = goalAssistRepository.findAllByPlayerId(playerId).stream()
-                            .collect(Collectors.toMap(mga -> mga.getMatch().getId(), Function.identity(), (a, b) -> a));
-                    int goals = gaByMatch.values().stream().mapToInt(MatchGoalAssist::getGoals).sum();
-                    int assists = gaByMatch.values().stream().mapToInt(MatchGoalAssist::getAssists).sum();
-                    // 출석한 경기 ID 목록
-                    Set<Long> attendedMatchIds = attendanceRepository.findAll().stream()
-                            .filter(ma -> ma.getPlayer().getId().equals(playerId) && ma.isAttended())
-                            .map(ma -> ma.getMatch().getId())
-                            .collect(Collectors.toSet());
-                    long attendance = attendedMatchIds.size();
-                    // 참가한 경기 목록 (날짜 내림차순, 경기별 골/어시)
-                    List<PlayerMatchRecordDto> matchRecords = matchRepository.findAllByOrderByMatchDateDesc().stream()
-                            .filter(m -> attendedMatchIds.contains(m.getId()))
-                            .map(m -> {
-                                MatchGoalAssist ga = gaByMatch.get(m.getId());
-                                return PlayerMatchRecordDto.builder()
-                                        .matchId(m.getId())
-                                        .matchDate(m.getMatchDate())
-                                        .opponent(m.getOpponent())
-                                        .goals(ga != null ? ga.getGoals() : 0)
-                                        .assists(ga != null ? ga.getAssists() : 0)
-                                        .attended(true)
-                                        .build();
-                            })
-                            .toList();
-                    return PlayerDetailDto.builder()
-                            .playerName(player.getName())
-                            .attendance((int) attendance)
-                            .goals(goals)
-                            .assists(assists)
-                            .phoneNumber(player.getPhoneNumber())
-                            .matchRecords(matchRecords)
+        JfrEvents.PlayerDetail event = new JfrEvents.PlayerDetail();
+        long queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES);
+        event.begin();
+        SeasonSnapshot snapshot = readModel.season(season);
+        Optional<PlayerDetailDto> detail = Optional.ofNullable(snapshot.getPlayersByName().get(playerName.trim()))
+                .map(player -> toPlayerDetail(snapshot, player));
+        if (event.shouldCommit()) {
+            event.player = playerName.trim();
+            event.season = JfrEvents.season(season);
+            event.found = detail.isPresent();
+            event.matchRows = detail.map(d -> d.getMatchRecords().size()).orElse(0);
+            event.queries = HibernateRequestStats.count(HibernateRequestStats.QUERIES) - queries;
+            event.commit();
+        }
+        return detail;
+    }
+
+    /** 스냅샷의 선수별 색인으로 선수 상세 조립 (DB 조회 없음) */
+    static PlayerDetailDto toPlayerDetail(SeasonSnapshot snapshot, PlayerListItemDto player) {
+        Long playerId = player.getId();
+        // 경기별 골/어시 (선수 기준)
+        Map<Long, GoalAssistRow> gaByMatch = new HashMap<>();
+        snapshot.goalAssistsOfPlayer(playerId).forEach(ga -> gaByMatch.putIfAbsent(ga.matchId(), ga));
+        int goals = gaByMatch.values().stream().mapToInt(GoalAssistRow::goals).sum();
+        int assists = gaByMatch.values().stream().mapToInt(GoalAssistRow::assists).sum();
+        // 참가한 경기 목록 (날짜 내림차순, 경기별 골/어시)
+        List<MatchDto> attendedMatches = snapshot.attendedMatchesOf(playerId);
+        List<PlayerMatchRecordDto> matchRecords = attendedMatches.stream()
+                .map(m -> {
+                    GoalAssistRow ga = gaByMatch.get(m.getId());
+                    return PlayerMatchRecordDto.builder()
+                            .matchId(m.getId())
+                            .matchDate(m.getMatchDate())
+                            .opponent(m.getOpponent())
+                            .goals(ga != null ? ga.goals() : 0)
+                            .assists(ga != null ? ga.assists() : 0)
+                            .attended(true)
                             .build();
-                });
+                })
+                .toList();
+        return PlayerDetailDto.builder()
+                .playerName(player.getName())
+                .attendance(attendedMatches.size())
+                .goals(goals)
+                .assists(assists)
+                .phoneNumber(player.getPhoneNumber())
+                .matchRecords(matchRecords)
+                .build();
     }
 
     /** 관리자용: 전체 선수 목록 (전화번호 수정용) */
     public List<PlayerListItemDto> getPlayers() {
-        return playerRepository.findAll().stream()
-                .sorted(Comparator.comparing(Player::getName))
-                .map(p -> PlayerListItemDto.builder()
-                        .id(p.getId())
-                        .name(p.getName())
-                        .phoneNumber(p.getPhoneNumber())
-                        .build())
-                .toList();
+        return readModel.current().getPlayers();
     }
 
     /** 선수 전화번호 수정 */
@@ -290,6 +274,8 @@ public class NaviService {
         return playerRepository.findById(id)
                 .map(player -> {
                     player.setPhoneNumber(phoneNumber != null && !phoneNumber.isBlank() ? phoneNumber.trim() : null);
+                    changeLog.record(ChangeLog.Type.PLAYER, id);
+                    eventPublisher.publishEvent(SeasonDataChangedEvent.common("player"));
                     return PlayerListItemDto.builder()
                             .id(player.getId())
                             .name(player.getName())
@@ -299,27 +285,14 @@ public class NaviService {
     }
 
     /** 출석 탭: 경기별 출석 선수 목록 */
-    public List<AttendanceLogDto> getAttendanceLogs() {
-        return matchRepository.findAllByOrderByMatchDateDesc().stream()
-                .map(m -> {
-                    List<String> names = attendanceRepository.findByMatchId(m.getId()).stream()
-                            .filter(MatchAttendance::isAttended)
-                            .map(ma -> ma.getPlayer().getName())
-                            .sorted()
-                            .toList();
-                    return AttendanceLogDto.builder()
-                            .matchId(m.getId())
-                            .matchDate(m.getMatchDate())
-                            .opponent(m.getOpponent())
-                            .attendedPlayerNames(names)
-                            .build();
-                })
-                .toList();
+    @Cacheable(cacheNames = CacheConfig.ATTENDANCE_LOGS, keyGenerator = "snapshotKeyGenerator")
+    public List<AttendanceLogDto> getAttendanceLogs(Integer season) {
+        return readModel.season(season).getAttendanceLogs();
     }
 
     /** 경기 등록 (경기 정보 + 참석자 + 골/도움 기록, 시즌 전적 반영) */
     @Transactional
-    public MatchDto createMatch(com.navi.dto.CreateMatchRequest req) {
+    public MatchDto createMatch(CreateMatchRequest req) {
         if (req == null || req.getMatchDate() == null) {
             throw new IllegalArgumentException("경기일은 필수입니다.");
         }
@@ -335,45 +308,23 @@ public class NaviService {
                 .ourScore(req.getOurScore())
                 .opponentScore(req.getOpponentScore())
                 .result(result)
+                .source(Match.Source.ADMIN)
                 .build();
         final Match savedMatch = matchRepository.save(match);
 
-        List<Long> attendeeIds = req.getAttendeePlayerIds() != null ? req.getAttendeePlayerIds() : List.of();
-        for (Long playerId : attendeeIds) {
-            playerRepository.findById(playerId).ifPresent(player ->
-                    attendanceRepository.save(MatchAttendance.builder()
-                            .match(savedMatch)
-                            .player(player)
-                            .attended(true)
-                            .build()));
-        }
-
-        List<com.navi.dto.GoalAssistRecordItemDto> records = req.getGoalAssistRecords() != null ? req.getGoalAssistRecords() : List.of();
-        for (com.navi.dto.GoalAssistRecordItemDto item : records) {
-            if (item.getPlayerId() == null) continue;
-            if (item.getGoals() == 0 && item.getAssists() == 0) continue;
-            playerRepository.findById(item.getPlayerId()).ifPresent(player ->
-                    goalAssistRepository.save(MatchGoalAssist.builder()
-                            .match(savedMatch)
-                            .player(player)
-                            .goals(Math.max(0, item.getGoals()))
-                            .assists(Math.max(0, item.getAssists()))
-                            .build()));
-        }
+        List<Long> attendeeIds = attendeeIdsOf(req);
+        List<GoalAssistRecordItemDto> records = req.getGoalAssistRecords() != null ? req.getGoalAssistRecords() : List.of();
+        Map<Long, Player> players = playersById(attendeeIds, records);
+        List<MatchAttendance> attendances = attendanceRepository.saveAll(attendancesOf(savedMatch, attendeeIds, players));
+        List<MatchGoalAssist> goalAssists = goalAssistRepository.saveAll(goalAssistsOf(savedMatch, records, players));
 
         int year = req.getMatchDate().getYear();
-        SeasonStats stats = seasonStatsRepository.findBySeasonYear(year)
-                .orElseGet(() -> {
-                    SeasonStats newStats = SeasonStats.builder().seasonYear(year).build();
-                    return seasonStatsRepository.save(newStats);
-                });
-        stats.setTotalMatches(stats.getTotalMatches() + 1);
-        if ("승".equals(result)) stats.setWins(stats.getWins() + 1);
-        else if ("무".equals(result)) stats.setDraws(stats.getDraws() + 1);
-        else stats.setLosses(stats.getLosses() + 1);
-        seasonStatsRepository.save(stats);
+        playerStatsService.applyMatch(year, attendances, goalAssists, 1);
+        incrementSeasonStats(year, result);
+        changeLog.recordMatches(List.of(savedMatch.getId()));
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("match", year));
 
-        return MatchDto.builder()
+        MatchDto created = MatchDto.builder()
                 .id(savedMatch.getId())
                 .matchDate(savedMatch.getMatchDate())
                 .matchTime(savedMatch.getMatchTime())
@@ -381,18 +332,82 @@ public class NaviService {
                 .ourScore(savedMatch.getOurScore())
                 .opponentScore(savedMatch.getOpponentScore())
                 .result(savedMatch.getResult())
+                .version(savedMatch.getVersion())
                 .build();
+        eventPublisher.publishEvent(StreamEvent.matchCreated(created));
+        return created;
+    }
+
+    /** 요청 참석자 ID (null 제거·중복 제거) */
+    private static List<Long> attendeeIdsOf(CreateMatchRequest req) {
+        return (req.getAttendeePlayerIds() != null ? req.getAttendeePlayerIds() : List.<Long>of())
+                .stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /** 참석자·골/도움 기록에 나오는 선수를 한 번의 조회로 가져옴 (ID → 선수) */
+    private Map<Long, Player> playersById(List<Long> attendeeIds, List<GoalAssistRecordItemDto> records) {
+        Set<Long> ids = new HashSet<>(attendeeIds);
+        records.stream()
+                .map(GoalAssistRecordItemDto::getPlayerId)
+                .filter(Objects::nonNull)
+                .forEach(ids::add);
+        Map<Long, Player> players = new HashMap<>();
+        playerRepository.findAllById(ids).forEach(p -> players.put(p.getId(), p));
+        return players;
+    }
+
+    /** 출석 행 생성 (없는 선수 ID는 건너뜀, 저장은 호출하는 쪽에서 saveAll 로 일괄) */
+    private static List<MatchAttendance> attendancesOf(Match match, List<Long> attendeeIds, Map<Long, Player> players) {
+        List<MatchAttendance> attendances = new ArrayList<>();
+        for (Long playerId : attendeeIds) {
+            Player player = players.get(playerId);
+            if (player == null) continue;
+            attendances.add(MatchAttendance.builder()
+                    .match(match)
+                    .player(player)
+                    .attended(true)
+                    .build());
+        }
+        return attendances;
+    }
+
+    /** 골/도움 행 생성 (같은 선수 기록은 한 행으로 합침, 골·도움 모두 0이거나 없는 선수면 건너뜀) */
+    private static List<MatchGoalAssist> goalAssistsOf(Match match, List<GoalAssistRecordItemDto> records,
+                                                       Map<Long, Player> players) {
+        Map<Long, MatchGoalAssist> byPlayer = new LinkedHashMap<>();
+        for (GoalAssistRecordItemDto item : records) {
+            if (item.getPlayerId() == null) continue;
+            if (item.getGoals() == 0 && item.getAssists() == 0) continue;
+            Player player = players.get(item.getPlayerId());
+            if (player == null) continue;
+            MatchGoalAssist mga = byPlayer.computeIfAbsent(player.getId(), id -> MatchGoalAssist.builder()
+                    .match(match)
+                    .player(player)
+                    .build());
+            mga.setGoals(mga.getGoals() + Math.max(0, item.getGoals()));
+            mga.setAssists(mga.getAssists() + Math.max(0, item.getAssists()));
+        }
+        return new ArrayList<>(byPlayer.values());
     }
 
-    /** 경기 상세 (수정 폼용: 참석자·골/도움 포함) */
+    /**
+     * 경기 상세 (수정 폼용: 참석자·골/도움 포함)
+     * - 스냅샷은 커밋 뒤 따로 갱신되므로, 방금 저장한 경기와 그 version 이 바로 보이도록 DB 에서 읽음
+     *   (스냅샷의 version 으로 저장하면 다른 사람이 바꾸지 않았어도 409)
+     */
     public Optional<MatchDetailDto> getMatchDetail(Long matchId) {
         return matchRepository.findById(matchId)
                 .map(match -> {
-                    List<Long> attendeeIds = attendanceRepository.findByMatchId(match.getId()).stream()
-                            .map(ma -> ma.getPlayer().getId())
+                    List<Long> attendeeIds = attendanceRepository.findRowsByMatchId(match.getId()).stream()
+                            .map(AttendanceRow::playerId)
                             .toList();
-                    List<GoalAssistRecordItemDto> records = goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(match.getId()).stream()
-                            .map(mga -> new GoalAssistRecordItemDto(mga.getPlayer().getId(), mga.getGoals(), mga.getAssists()))
+                    List<GoalAssistRecordItemDto> records = goalAssistRepository.findRowsByMatchId(match.getId()).stream()
+                            .sorted(Comparator.comparingInt(GoalAssistRow::goals).reversed()
+                                    .thenComparing(Comparator.comparingInt(GoalAssistRow::assists).reversed()))
+                            .map(ga -> new GoalAssistRecordItemDto(ga.playerId(), ga.goals(), ga.assists()))
                             .toList();
                     return MatchDetailDto.builder()
                             .id(match.getId())
@@ -401,21 +416,30 @@ public class NaviService {
                             .opponent(match.getOpponent())
                             .ourScore(match.getOurScore())
                             .opponentScore(match.getOpponentScore())
+                            .version(match.getVersion())
                             .attendeePlayerIds(attendeeIds)
                             .goalAssistRecords(records.isEmpty() ? List.of() : records)
                             .build();
                 });
     }
 
-    /** 시즌 전적에서 한 경기 분량 감소 */
+    /** 시즌 전적에 한 경기 분량 추가 (시즌 행이 없으면 생성) */
+    private void incrementSeasonStats(int year, String result) {
+        seasonStatsRepository.insertIfAbsent(year);
+        addSeasonStats(year, result, 1);
+    }
+
+    /** 시즌 전적에서 한 경기 분량 감소 (시즌 행이 없으면 무시) */
     private void decrementSeasonStats(int year, String result) {
-        seasonStatsRepository.findBySeasonYear(year).ifPresent(stats -> {
-            stats.setTotalMatches(Math.max(0, stats.getTotalMatches() - 1));
-            if ("승".equals(result)) stats.setWins(Math.max(0, stats.getWins() - 1));
-            else if ("무".equals(result)) stats.setDraws(Math.max(0, stats.getDraws() - 1));
-            else stats.setLosses(Math.max(0, stats.getLosses() - 1));
-            seasonStatsRepository.save(stats);
-        });
+        addSeasonStats(year, result, -1);
+    }
+
+    /** 경기 수와 결과(승/무/패) 칸을 sign 만큼 원자적으로 증감 */
+    private void addSeasonStats(int year, String result, int sign) {
+        seasonStatsRepository.addCounts(year, sign,
+                "승".equals(result) ? sign : 0,
+                "무".equals(result) ? sign : 0,
+                !"승".equals(result) && !"무".equals(result) ? sign : 0);
     }
 
     /** 경기 수정 (경기 정보·참석자·골/도움 갱신, 시즌 전적 반영) */
@@ -424,17 +448,23 @@ public class NaviService {
         if (req == null || req.getMatchDate() == null) {
             throw new IllegalArgumentException("경기일은 필수입니다.");
         }
+        // 잠그지 않고 읽음: 그사이 다른 곳에서 바뀌면 저장 시 @Version 이 ObjectOptimisticLockingFailureException 으로 거절 (409)
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다."));
+        long loadedVersion = match.getVersion();
+        if (req.getVersion() != null && req.getVersion() != loadedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Match.class, matchId);
+        }
 
         int oldYear = match.getMatchDate().getYear();
+        int newYear = req.getMatchDate().getYear();
         String oldResult = match.getResult();
-        decrementSeasonStats(oldYear, oldResult);
 
         String result = "무";
         if (req.getOurScore() > req.getOpponentScore()) result = "승";
         else if (req.getOurScore() < req.getOpponentScore()) result = "패";
 
+        // 바뀐 필드만 UPDATE 됨 (더티 체킹)
         match.setMatchDate(req.getMatchDate());
         match.setMatchTime(req.getMatchTime());
         match.setOpponent(req.getOpponent() != null ? req.getOpponent().trim() : "");
@@ -443,51 +473,39 @@ public class NaviService {
         match.setResult(result);
         final Match savedMatch = matchRepository.save(match);
 
-        attendanceRepository.findByMatchId(matchId).forEach(attendanceRepository::delete);
-        entityManager.flush(); // 삭제를 DB에 반영한 뒤 삽입 (유니크 제약 위반 방지)
-        // null 제거·중복 제거 (findById(null) 시 예외 방지)
-        List<Long> attendeeIds = (req.getAttendeePlayerIds() != null ? req.getAttendeePlayerIds() : List.<Long>of())
-                .stream()
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        for (Long playerId : attendeeIds) {
-            playerRepository.findById(playerId).ifPresent(player ->
-                    attendanceRepository.save(MatchAttendance.builder()
-                            .match(savedMatch)
-                            .player(player)
-                            .attended(true)
-                            .build()));
+        List<MatchAttendance> oldAttendances = attendanceRepository.findByMatchId(matchId);
+        List<MatchGoalAssist> oldGoalAssists = goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(matchId);
+        boolean yearChanged = oldYear != newYear;
+        if (yearChanged) { // 시즌이 바뀌면 경기 분량 전체를 옛 시즌에서 빼고 새 시즌에 더함
+            playerStatsService.applyMatch(oldYear, oldAttendances, oldGoalAssists, -1);
         }
-
-        goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(matchId).forEach(goalAssistRepository::delete);
-        entityManager.flush(); // 삭제를 DB에 반영한 뒤 삽입
-        List<GoalAssistRecordItemDto> records = req.getGoalAssistRecords() != null ? req.getGoalAssistRecords() : List.of();
-        for (GoalAssistRecordItemDto item : records) {
-            if (item.getPlayerId() == null) continue;
-            if (item.getGoals() == 0 && item.getAssists() == 0) continue;
-            playerRepository.findById(item.getPlayerId()).ifPresent(player ->
-                    goalAssistRepository.save(MatchGoalAssist.builder()
-                            .match(savedMatch)
-                            .player(player)
-                            .goals(Math.max(0, item.getGoals()))
-                            .assists(Math.max(0, item.getAssists()))
-                            .build()));
+        RowChanges<MatchAttendance> attendances = syncAttendances(savedMatch, oldAttendances, attendeeIdsOf(req));
+        RowChanges<MatchGoalAssist> goalAssists = syncGoalAssists(savedMatch, oldGoalAssists,
+                req.getGoalAssistRecords() != null ? req.getGoalAssistRecords() : List.of());
+        if (yearChanged) {
+            playerStatsService.applyMatch(newYear, attendances.current(), goalAssists.current(), 1);
+        } else {
+            playerStatsService.applyMatch(newYear, attendances.removed(), goalAssists.removed(), -1);
+            playerStatsService.applyMatch(newYear, attendances.added(), goalAssists.added(), 1);
         }
 
-        int newYear = req.getMatchDate().getYear();
-        SeasonStats stats = seasonStatsRepository.findBySeasonYear(newYear)
-                .orElseGet(() -> {
-                    SeasonStats newStats = SeasonStats.builder().seasonYear(newYear).build();
-                    return seasonStatsRepository.save(newStats);
-                });
-        stats.setTotalMatches(stats.getTotalMatches() + 1);
-        if ("승".equals(result)) stats.setWins(stats.getWins() + 1);
-        else if ("무".equals(result)) stats.setDraws(stats.getDraws() + 1);
-        else stats.setLosses(stats.getLosses() + 1);
-        seasonStatsRepository.save(stats);
+        if (yearChanged || !result.equals(oldResult)) {
+            decrementSeasonStats(oldYear, oldResult);
+            incrementSeasonStats(newYear, result);
+        }
+        changeLog.recordMatches(List.of(matchId));
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("match", oldYear, newYear));
+        matchRepository.flush(); // 필드가 바뀌었으면 여기서 버전이 올라감 (다른 곳에서 먼저 바꿨으면 충돌)
+        long version = savedMatch.getVersion();
+        if (version == loadedVersion && (attendances.changed() || goalAssists.changed())) {
+            // 참석자·골/도움만 바뀐 경우에도 버전을 올림 (읽은 버전 그대로일 때만)
+            if (matchRepository.incrementVersion(matchId, loadedVersion) == 0) {
+                throw new ObjectOptimisticLockingFailureException(Match.class, matchId);
+            }
+            version = loadedVersion + 1;
+        }
 
-        return MatchDto.builder()
+        MatchDto updated = MatchDto.builder()
                 .id(savedMatch.getId())
                 .matchDate(savedMatch.getMatchDate())
                 .matchTime(savedMatch.getMatchTime())
@@ -495,7 +513,173 @@ public class NaviService {
                 .ourScore(savedMatch.getOurScore())
                 .opponentScore(savedMatch.getOpponentScore())
                 .result(savedMatch.getResult())
+                .version(version)
                 .build();
+        eventPublisher.publishEvent(StreamEvent.matchUpdated(updated));
+        return updated;
+    }
+
+    /**
+     * 경기 수정 시 행 단위 변경 내역
+     * @param removed 삭제됐거나 값이 바뀐 행의 이전 값 (선수 누적에서 뺄 분량)
+     * @param added 새로 생겼거나 값이 바뀐 행의 현재 값 (선수 누적에 더할 분량)
+     * @param current 수정 후 남은 전체 행
+     */
+    private record RowChanges<T>(List<T> removed, List<T> added, List<T> current) {
+
+        boolean changed() {
+            return !removed.isEmpty() || !added.isEmpty();
+        }
+    }
+
+    /** 저장된 출석과 요청 참석자를 비교해 빠진 선수만 삭제, 새 선수만 추가 */
+    private RowChanges<MatchAttendance> syncAttendances(Match match, List<MatchAttendance> stored, List<Long> attendeeIds) {
+        Set<Long> requested = new HashSet<>(attendeeIds);
+        Map<Long, MatchAttendance> byPlayer = new HashMap<>();
+        List<MatchAttendance> removed = new ArrayList<>();
+        List<MatchAttendance> added = new ArrayList<>();
+        List<MatchAttendance> current = new ArrayList<>();
+        for (MatchAttendance ma : stored) {
+            Long playerId = ma.getPlayer().getId();
+            if (!requested.contains(playerId)) {
+                removed.add(ma);
+                continue;
+            }
+            byPlayer.put(playerId, ma);
+            if (!ma.isAttended()) { // 불참 행이 참석으로 바뀐 경우
+                ma.setAttended(true);
+                added.add(ma);
+            }
+            current.add(ma);
+        }
+        attendanceRepository.deleteAllInBatch(removed);
+        List<Long> newIds = attendeeIds.stream().filter(id -> !byPlayer.containsKey(id)).toList();
+        List<MatchAttendance> inserted = attendanceRepository.saveAll(
+                attendancesOf(match, newIds, playersById(newIds, List.of())));
+        added.addAll(inserted);
+        current.addAll(inserted);
+        return new RowChanges<>(removed, added, current);
+    }
+
+    /** 저장된 골/도움과 요청 기록을 선수별로 비교해 바뀐 행만 수정·삭제·추가 */
+    private RowChanges<MatchGoalAssist> syncGoalAssists(Match match, List<MatchGoalAssist> stored,
+                                                        List<GoalAssistRecordItemDto> records) {
+        Map<Long, int[]> requested = new LinkedHashMap<>(); // playerId → [goals, assists]
+        for (GoalAssistRecordItemDto item : records) {
+            if (item.getPlayerId() == null) continue;
+            if (item.getGoals() == 0 && item.getAssists() == 0) continue;
+            int[] ga = requested.computeIfAbsent(item.getPlayerId(), k -> new int[2]);
+            ga[0] += Math.max(0, item.getGoals());
+            ga[1] += Math.max(0, item.getAssists());
+        }
+        Set<Long> seen = new HashSet<>();
+        List<MatchGoalAssist> deleted = new ArrayList<>();
+        List<MatchGoalAssist> removed = new ArrayList<>();
+        List<MatchGoalAssist> added = new ArrayList<>();
+        List<MatchGoalAssist> current = new ArrayList<>();
+        for (MatchGoalAssist mga : stored) {
+            int[] want = requested.get(mga.getPlayer().getId());
+            if (want == null || !seen.add(mga.getPlayer().getId())) { // 요청에 없거나 같은 선수의 중복 행
+                deleted.add(mga);
+                removed.add(mga);
+                continue;
+            }
+            if (mga.getGoals() != want[0] || mga.getAssists() != want[1]) {
+                removed.add(MatchGoalAssist.builder()
+                        .player(mga.getPlayer())
+                        .goals(mga.getGoals())
+                        .assists(mga.getAssists())
+                        .build());
+                mga.setGoals(want[0]);
+                mga.setAssists(want[1]);
+                added.add(mga);
+            }
+            current.add(mga);
+        }
+        goalAssistRepository.deleteAllInBatch(deleted);
+        List<GoalAssistRecordItemDto> newRecords = new ArrayList<>();
+        requested.forEach((playerId, ga) -> {
+            if (!seen.contains(playerId)) newRecords.add(new GoalAssistRecordItemDto(playerId, ga[0], ga[1]));
+        });
+        List<MatchGoalAssist> inserted = goalAssistRepository.saveAll(
+                goalAssistsOf(match, newRecords, playersById(List.of(), newRecords)));
+        added.addAll(inserted);
+        current.addAll(inserted);
+        return new RowChanges<>(removed, added, current);
+    }
+
+    /**
+     * 경기 중 선수 한 명 출석 변경 (attended 가 null 이면 토글).
+     * 출석이면 행을 만들거나 참석으로 바꾸고, 불참이면 행을 지움. 경기 행을 먼저 잠가 같은 경기의 변경을 차례로 처리하므로
+     * (아직 없는 출석 행도) 동시에 두 번 만들어지지 않고, 바뀌면 경기 버전을 올림
+     */
+    @Transactional
+    public MatchAttendanceDto updateAttendance(Long matchId, Long playerId, Boolean attended) {
+        Match match = matchRepository.findLockedById(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다."));
+        Optional<MatchAttendance> stored = attendanceRepository.findByMatchIdAndPlayerId(matchId, playerId);
+        boolean wasAttended = stored.map(MatchAttendance::isAttended).orElse(false);
+        boolean nowAttended = attended != null ? attended : !wasAttended;
+        if (nowAttended == wasAttended) {
+            return new MatchAttendanceDto(matchId, playerId, nowAttended);
+        }
+        if (nowAttended) {
+            MatchAttendance ma = stored.orElseGet(() -> MatchAttendance.builder()
+                    .match(match)
+                    .player(playerRepository.findById(playerId)
+                            .orElseThrow(() -> new IllegalArgumentException("선수를 찾을 수 없습니다.")))
+                    .build());
+            ma.setAttended(true);
+            attendanceRepository.save(ma);
+        } else {
+            attendanceRepository.delete(stored.get());
+        }
+        matchRepository.incrementVersion(matchId, match.getVersion());
+        int year = match.getMatchDate().getYear();
+        playerStatsService.addDelta(year, playerId, 0, 0, nowAttended ? 1 : -1);
+        changeLog.record(ChangeLog.Type.ATTENDANCE, matchId);
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("match", year));
+        MatchAttendanceDto changed = new MatchAttendanceDto(matchId, playerId, nowAttended);
+        eventPublisher.publishEvent(StreamEvent.attendance(changed));
+        return changed;
+    }
+
+    /**
+     * 경기 중 선수 한 명 골/도움 증감 (음수면 감소, 0 아래로는 내려가지 않음).
+     * 경기 행을 먼저 잠그고, 행이 있으면 UPDATE 한 문장으로 더하고 없으면 새로 만듦. 골·도움이 모두 0이 되면 지움
+     */
+    @Transactional
+    public GoalAssistRecordItemDto addGoalAssist(Long matchId, Long playerId, int goals, int assists) {
+        Match match = matchRepository.findLockedById(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다."));
+        GoalAssistRow before = goalAssistRepository.findRow(matchId, playerId).orElse(null);
+        int oldGoals = before != null ? before.goals() : 0;
+        int oldAssists = before != null ? before.assists() : 0;
+        int newGoals = Math.max(0, oldGoals + goals);
+        int newAssists = Math.max(0, oldAssists + assists);
+        if (newGoals == oldGoals && newAssists == oldAssists) {
+            return new GoalAssistRecordItemDto(playerId, oldGoals, oldAssists);
+        }
+        if (before == null) {
+            goalAssistRepository.save(MatchGoalAssist.builder()
+                    .match(match)
+                    .player(playerRepository.findById(playerId)
+                            .orElseThrow(() -> new IllegalArgumentException("선수를 찾을 수 없습니다.")))
+                    .goals(newGoals)
+                    .assists(newAssists)
+                    .build());
+        } else {
+            goalAssistRepository.addCounts(matchId, playerId, goals, assists);
+            if (newGoals == 0 && newAssists == 0) goalAssistRepository.deleteIfEmpty(matchId, playerId);
+        }
+        matchRepository.incrementVersion(matchId, match.getVersion());
+        int year = match.getMatchDate().getYear();
+        playerStatsService.addDelta(year, playerId, newGoals - oldGoals, newAssists - oldAssists, 0);
+        changeLog.record(ChangeLog.Type.GOAL_ASSIST, matchId);
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("match", year));
+        GoalAssistRecordItemDto changed = new GoalAssistRecordItemDto(playerId, newGoals, newAssists);
+        eventPublisher.publishEvent(StreamEvent.goalAssist(matchId, changed));
+        return changed;
     }
 
     /** 경기 삭제 (참석·골/도움 함께 삭제, 시즌 전적 반영) */
@@ -505,9 +689,35 @@ public class NaviService {
                 .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다."));
         int year = match.getMatchDate().getYear();
         String result = match.getResult();
-        attendanceRepository.findByMatchId(matchId).forEach(attendanceRepository::delete);
-        goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(matchId).forEach(goalAssistRepository::delete);
+        // 출석·골/도움은 ID만 읽어 누적에서 빼고, 경기별 DELETE 한 문장씩으로 삭제
+        playerStatsService.applyRows(year, attendanceRepository.findRowsByMatchId(matchId),
+                goalAssistRepository.findRowsByMatchId(matchId), -1);
+        attendanceRepository.bulkDeleteByMatchId(matchId);
+        goalAssistRepository.bulkDeleteByMatchId(matchId);
         matchRepository.delete(match);
         decrementSeasonStats(year, result);
+        changeLog.recordMatches(List.of(matchId));
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("match", year));
+        eventPublisher.publishEvent(StreamEvent.matchDeleted(matchId, year));
+    }
+
+    /**
+     * 한 시즌 기록 전체 삭제 (경기·출석·골/도움·선수별 누적·시즌 전적, 과거 시즌을 다시 들여오기 전 정리용).
+     * 테이블마다 DELETE 한 문장씩이며 엔티티를 읽지 않음. 선수는 유지. 삭제한 경기 수 반환
+     */
+    @Transactional
+    public int deleteSeason(int seasonYear) {
+        LocalDate from = SeasonPartition.firstDay(seasonYear);
+        LocalDate to = SeasonPartition.lastDay(seasonYear);
+        List<Long> matchIds = matchRepository.findIdsByMatchDateBetween(from, to);
+        goalAssistRepository.bulkDeleteByMatchDateBetween(from, to);
+        attendanceRepository.bulkDeleteByMatchDateBetween(from, to);
+        int deleted = matchRepository.bulkDeleteByMatchDateBetween(from, to);
+        playerSeasonStatsRepository.bulkDeleteBySeasonYear(seasonYear);
+        seasonStatsRepository.bulkDeleteBySeasonYear(seasonYear);
+        changeLog.recordMatches(matchIds);
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("season-delete", seasonYear));
+        eventPublisher.publishEvent(StreamEvent.seasonDeleted(seasonYear, deleted));
+        return deleted;
     }
 }
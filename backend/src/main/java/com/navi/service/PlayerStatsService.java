@@ -0,0 +1,129 @@
+package com.navi.service;
+
+import com.navi.entity.*;
+import com.navi.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 선수별 시즌 누적 기록(player_season_stats) 관리
+ * - 경기 등록/수정/삭제 시 해당 경기 분량을 증감으로 반영
+ * - 집계가 어긋났을 때를 위해 출석·골/도움 테이블에서 전체 재계산 지원
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PlayerStatsService {
+
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchAttendanceRepository attendanceRepository;
+    private final MatchGoalAssistRepository goalAssistRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 한 경기 분량의 출석·골/도움을 시즌 누적에 반영
+     * @param sign 등록 시 1, 삭제 시 -1
+     */
+    public void applyMatch(int seasonYear, Collection<MatchAttendance> attendances,
+                           Collection<MatchGoalAssist> goalAssists, int sign) {
+        Map<Long, int[]> deltas = new HashMap<>(); // playerId → [goals, assists, appearances]
+        for (MatchAttendance ma : attendances) {
+            if (!ma.isAttended()) continue;
+            deltas.computeIfAbsent(ma.getPlayer().getId(), k -> new int[3])[2] += sign;
+        }
+        for (MatchGoalAssist mga : goalAssists) {
+            int[] d = deltas.computeIfAbsent(mga.getPlayer().getId(), k -> new int[3]);
+            d[0] += sign * mga.getGoals();
+            d[1] += sign * mga.getAssists();
+        }
+        applyDeltas(seasonYear, deltas);
+    }
+
+    /** applyMatch 와 같지만 ID 프로젝션을 받음 (삭제 전 엔티티를 읽지 않고 차감할 때) */
+    public void applyRows(int seasonYear, Collection<AttendanceRow> attendances,
+                          Collection<GoalAssistRow> goalAssists, int sign) {
+        Map<Long, int[]> deltas = new HashMap<>();
+        for (AttendanceRow a : attendances) {
+            if (!a.attended()) continue;
+            deltas.computeIfAbsent(a.playerId(), k -> new int[3])[2] += sign;
+        }
+        for (GoalAssistRow ga : goalAssists) {
+            int[] d = deltas.computeIfAbsent(ga.playerId(), k -> new int[3]);
+            d[0] += sign * ga.goals();
+            d[1] += sign * ga.assists();
+        }
+        applyDeltas(seasonYear, deltas);
+    }
+
+    /** 선수 한 명의 시즌 누적 증감 (경기 중 출석·골/도움 한 건 변경용) */
+    public void addDelta(int seasonYear, Long playerId, int goals, int assists, int appearances) {
+        Map<Long, int[]> deltas = new HashMap<>();
+        deltas.put(playerId, new int[]{goals, assists, appearances});
+        applyDeltas(seasonYear, deltas);
+    }
+
+    /**
+     * 선수별 증감([goals, assists, appearances])을 시즌 행에 반영 (선수마다 upsert 한 문장, 읽고-더하고-쓰기 없음).
+     * 0 아래로 자르지 않음: 차감 후 음수가 된 행은 누적이 어긋난 것이므로 경고만 남김 (rebuild 로 바로잡음)
+     */
+    private void applyDeltas(int seasonYear, Map<Long, int[]> deltas) {
+        List<Long> decreased = new ArrayList<>();
+        deltas.forEach((playerId, d) -> {
+            if (d[0] == 0 && d[1] == 0 && d[2] == 0) return;
+            playerSeasonStatsRepository.upsertDelta(playerId, seasonYear, d[0], d[1], d[2]);
+            if (d[0] < 0 || d[1] < 0 || d[2] < 0) decreased.add(playerId);
+        });
+        if (decreased.isEmpty()) return;
+        for (PlayerSeasonStats pss : playerSeasonStatsRepository.findBySeasonYearAndPlayerIdIn(seasonYear, decreased)) {
+            if (pss.getGoals() < 0 || pss.getAssists() < 0 || pss.getAppearances() < 0) {
+                log.warn("선수별 시즌 누적이 음수가 됨 (재계산 필요): playerId={}, season={}, goals={}, assists={}, appearances={}",
+                        pss.getPlayer().getId(), seasonYear, pss.getGoals(), pss.getAssists(), pss.getAppearances());
+            }
+        }
+    }
+
+    /** 출석·골/도움 테이블에서 선수별 시즌 누적을 처음부터 다시 계산. 생성된 행 수 반환 */
+    public int rebuild() {
+        playerSeasonStatsRepository.deleteAllInBatch();
+        Map<Long, Map<Integer, PlayerSeasonStats>> byPlayer = new HashMap<>();
+        for (Object[] row : attendanceRepository.countAttendedGroupByPlayerAndYear()) {
+            statsFor(byPlayer, (Long) row[0], ((Number) row[1]).intValue())
+                    .setAppearances(((Number) row[2]).intValue());
+        }
+        for (Object[] row : goalAssistRepository.sumGroupByPlayerAndYear()) {
+            PlayerSeasonStats stats = statsFor(byPlayer, (Long) row[0], ((Number) row[1]).intValue());
+            stats.setGoals(((Number) row[2]).intValue());
+            stats.setAssists(((Number) row[3]).intValue());
+        }
+        List<PlayerSeasonStats> all = byPlayer.values().stream()
+                .flatMap(m -> m.values().stream())
+                .toList();
+        playerSeasonStatsRepository.saveAll(all);
+        eventPublisher.publishEvent(SeasonDataChangedEvent.all("player-stats"));
+        log.info("선수별 시즌 누적 재계산 완료: {}건", all.size());
+        return all.size();
+    }
+
+    /** 누적 테이블이 비어 있는데 경기 기록이 있으면 재계산 (기존 DB 최초 기동 시) */
+    public void rebuildIfEmpty() {
+        if (playerSeasonStatsRepository.count() == 0
+                && (attendanceRepository.count() > 0 || goalAssistRepository.count() > 0)) {
+            rebuild();
+        }
+    }
+
+    private PlayerSeasonStats statsFor(Map<Long, Map<Integer, PlayerSeasonStats>> byPlayer, Long playerId, int seasonYear) {
+        return byPlayer.computeIfAbsent(playerId, k -> new HashMap<>())
+                .computeIfAbsent(seasonYear, y -> PlayerSeasonStats.builder()
+                        .player(playerRepository.getReferenceById(playerId))
+                        .seasonYear(y)
+                        .build());
+    }
+}
@@ -0,0 +1,152 @@
+package com.navi.service;
+
+import com.navi.dto.RankingDto;
+import com.navi.repository.PlayerTotals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 선수별 합계(PlayerTotals)로 득점/도움/출석 순위 계산
+ * (순위마다 JFR Ranking 이벤트 기록, 녹화 중이 아니면 건너뜀)
+ * - 선수마다 (값, 입력 순서)를 long 하나로 묶어 기본형 배열로 정렬 (박싱 비교자 없음)
+ * - limit 을 주면 크기 limit 의 최소 힙으로 limit 번째 값을 구한 뒤 그 값 이상인 선수만 정렬 (limit 번째와 동점인 선수는 모두 포함)
+ */
+public final class RankingCalculator {
+
+    /** 순위 인원 제한 없음 */
+    public static final int UNLIMITED = 0;
+
+    private RankingCalculator() {
+    }
+
+    /** 선수별 총 골 수 순위 (골/도움 기록이 있는 선수 대상) */
+    public static List<RankingDto> goalRanking(List<PlayerTotals> totals) {
+        return goalRanking(totals, UNLIMITED);
+    }
+
+    /** 선수별 총 도움 수 순위 (골/도움 기록이 있는 선수 대상) */
+    public static List<RankingDto> assistRanking(List<PlayerTotals> totals) {
+        return assistRanking(totals, UNLIMITED);
+    }
+
+    /** 선수별 출석 횟수 순위 */
+    public static List<RankingDto> attendanceRanking(List<PlayerTotals> totals) {
+        return attendanceRanking(totals, UNLIMITED);
+    }
+
+    /** 골 순위 상위 limit 명 (동점자 포함, limit 이 0 이하면 전체) */
+    public static List<RankingDto> goalRanking(List<PlayerTotals> totals, int limit) {
+        return ranked("goal", totals, t -> t.goals() + t.assists() > 0, PlayerTotals::goals, limit);
+    }
+
+    /** 도움 순위 상위 limit 명 (동점자 포함, limit 이 0 이하면 전체) */
+    public static List<RankingDto> assistRanking(List<PlayerTotals> totals, int limit) {
+        return ranked("assist", totals, t -> t.goals() + t.assists() > 0, PlayerTotals::assists, limit);
+    }
+
+    /** 출석 순위 상위 limit 명 (동점자 포함, limit 이 0 이하면 전체) */
+    public static List<RankingDto> attendanceRanking(List<PlayerTotals> totals, int limit) {
+        return ranked("attendance", totals, t -> t.appearances() > 0, PlayerTotals::appearances, limit);
+    }
+
+    /** 대상 선수만 골라 순위 계산 */
+    private static List<RankingDto> ranked(String kind, List<PlayerTotals> totals, Predicate<PlayerTotals> included,
+                                           ToLongFunction<PlayerTotals> valueOf, int limit) {
+        JfrEvents.Ranking event = new JfrEvents.Ranking();
+        event.begin();
+        List<RankingDto> ranking = toRankingList(totals.stream().filter(included).toList(), valueOf, limit);
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.players = totals.size();
+            event.limit = limit;
+            event.rows = ranking.size();
+            event.commit();
+        }
+        return ranking;
+    }
+
+    /** 값 내림차순, 값이 같으면 동일 순위 부여 (1,2,3위는 프론트에서 금색 표시) */
+    static List<RankingDto> toRankingList(List<PlayerTotals> totals, ToLongFunction<PlayerTotals> valueOf) {
+        return toRankingList(totals, valueOf, UNLIMITED);
+    }
+
+    /**
+     * 값 내림차순 상위 limit 명 (limit 번째와 같은 값은 모두 포함, 0 이하면 전체).
+     * 같은 값끼리는 입력 순서를 유지하고, 순위는 앞선 인원 수 + 1 (1, 1, 3, ...)
+     */
+    static List<RankingDto> toRankingList(List<PlayerTotals> totals, ToLongFunction<PlayerTotals> valueOf, int limit) {
+        long[] keys = new long[totals.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key((int) valueOf.applyAsLong(totals.get(i)), i);
+        }
+        if (limit > 0 && limit < keys.length) {
+            int threshold = valueOf(kthLargest(keys, limit));
+            int selected = 0;
+            for (long key : keys) {
+                if (valueOf(key) >= threshold) keys[selected++] = key;
+            }
+            keys = Arrays.copyOf(keys, selected);
+        }
+        Arrays.sort(keys);
+        List<RankingDto> result = new ArrayList<>(keys.length);
+        int rank = 1;
+        for (int i = keys.length - 1; i >= 0; i--) {
+            int value = valueOf(keys[i]);
+            if (i < keys.length - 1 && value != valueOf(keys[i + 1])) {
+                rank = result.size() + 1;
+            }
+            result.add(RankingDto.builder()
+                    .rank(rank)
+                    .playerName(totals.get(indexOf(keys[i])).name())
+                    .value(value)
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 상위 32비트는 값, 하위 32비트는 입력 순서를 뒤집은 값.
+     * 오름차순 정렬 후 뒤에서부터 읽으면 값 내림차순, 같은 값은 입력 순서
+     */
+    private static long key(int value, int index) {
+        return ((long) value << 32) | (0xFFFFFFFFL - index);
+    }
+
+    private static int valueOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int indexOf(long key) {
+        return (int) (0xFFFFFFFFL - (key & 0xFFFFFFFFL));
+    }
+
+    /** k 번째로 큰 키 (크기 k 의 최소 힙, 1 <= k <= keys.length) */
+    private static long kthLargest(long[] keys, int k) {
+        long[] heap = Arrays.copyOf(keys, k);
+        for (int i = k / 2 - 1; i >= 0; i--) siftDown(heap, i);
+        for (int i = k; i < keys.length; i++) {
+            if (keys[i] > heap[0]) {
+                heap[0] = keys[i];
+                siftDown(heap, 0);
+            }
+        }
+        return heap[0];
+    }
+
+    private static void siftDown(long[] heap, int i) {
+        long key = heap[i];
+        int half = heap.length >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heap.length && heap[child + 1] < heap[child]) child++;
+            if (key <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
@@ -0,0 +1,58 @@
+package com.navi.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API 응답 캐시 무효화 및 통계
+ * - 쓰기 커밋 후 스냅샷이 교체되면 모든 응답 캐시를 비움 (키에 스냅샷 버전이 들어 있어 이전 항목은 어차피 쓰이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadCacheService {
+
+    private final CacheManager cacheManager;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 스냅샷 교체 직후 (데이터 버전(@Order(5)) 이후) */
+    @Order(10)
+    @EventListener
+    public void onSnapshotRefreshed(SnapshotRefreshedEvent event) {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) cache.clear();
+        }
+        invalidations.incrementAndGet();
+        log.debug("응답 캐시 비움 (스냅샷 {})", event.snapshotVersion());
+    }
+
+    /** 캐시별 적중/미스/축출 통계 */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) continue;
+            CacheStats stats = cache.getNativeCache().stats();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("size", cache.getNativeCache().estimatedSize());
+            item.put("hits", stats.hitCount());
+            item.put("misses", stats.missCount());
+            item.put("hitRate", stats.hitRate());
+            item.put("evictions", stats.evictionCount());
+            result.put(name, item);
+        }
+        result.put("invalidations", invalidations.get());
+        return result;
+    }
+}
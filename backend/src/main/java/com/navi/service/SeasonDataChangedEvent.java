@@ -0,0 +1,27 @@
+package com.navi.service;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 경기/출석/골·도움/선수/다음 경기/시즌 전적 데이터가 바뀌었음을 알리는 이벤트
+ * (커밋 후 읽기 모델 갱신 등에 사용)
+ * @param seasonYears 경기 기록이 바뀐 시즌(연도). null 이면 전체 시즌, 비어 있으면 선수·다음 경기 등 공통 데이터만 바뀜
+ */
+public record SeasonDataChangedEvent(String source, Set<Integer> seasonYears) {
+
+    /** 전체 시즌을 다시 읽어야 하는 변경 (시드, 재계산 등) */
+    public static SeasonDataChangedEvent all(String source) {
+        return new SeasonDataChangedEvent(source, null);
+    }
+
+    /** 경기 기록과 무관한 변경 (선수 전화번호, 다음 경기) */
+    public static SeasonDataChangedEvent common(String source) {
+        return new SeasonDataChangedEvent(source, Set.of());
+    }
+
+    /** 주어진 시즌의 경기 기록만 바뀐 변경 */
+    public static SeasonDataChangedEvent seasons(String source, Integer... seasonYears) {
+        return new SeasonDataChangedEvent(source, Set.copyOf(Arrays.asList(seasonYears)));
+    }
+}
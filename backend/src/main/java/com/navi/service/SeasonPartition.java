@@ -0,0 +1,45 @@
+package com.navi.service;
+
+import com.navi.dto.MatchDto;
+import com.navi.dto.SeasonStatsDto;
+import com.navi.repository.AttendanceRow;
+import com.navi.repository.GoalAssistRow;
+import com.navi.repository.PlayerTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시즌(연도) 하나 분량의 원본 데이터 (불변)
+ * - 그 해 1/1~12/31 경기일 범위와 시즌 연도로만 조회해 만들므로, 다른 시즌 행은 읽지 않음
+ * - 쓰기가 있으면 바뀐 시즌의 조각만 다시 읽고, 나머지 시즌은 이전 조각을 그대로 재사용
+ * @param seasonStats 시즌 전적 (season_stats 행이 없으면 null)
+ */
+record SeasonPartition(int seasonYear, SeasonStatsDto seasonStats, List<MatchDto> matches,
+                       List<AttendanceRow> attendances, List<GoalAssistRow> goalAssists, List<PlayerTotals> totals) {
+
+    SeasonPartition {
+        matches = List.copyOf(matches);
+        attendances = List.copyOf(attendances);
+        goalAssists = List.copyOf(goalAssists);
+        totals = List.copyOf(totals);
+    }
+
+    static LocalDate firstDay(int seasonYear) {
+        return LocalDate.of(seasonYear, 1, 1);
+    }
+
+    static LocalDate lastDay(int seasonYear) {
+        return LocalDate.of(seasonYear, 12, 31);
+    }
+
+    /** 전적도 경기 기록도 없는 시즌 (시즌 목록에서 제외) */
+    boolean isEmpty() {
+        return seasonStats == null && matches.isEmpty() && totals.isEmpty();
+    }
+
+    /** 전적 행이 없으면 0승 0무 0패 */
+    SeasonStatsDto seasonStatsOrEmpty() {
+        return seasonStats != null ? seasonStats : SeasonSnapshot.emptySeasonStats(seasonYear);
+    }
+}
@@ -0,0 +1,371 @@
+package com.navi.service;
+
+import com.navi.dto.MatchDto;
+import com.navi.dto.NextMatchDto;
+import com.navi.dto.PlayerListItemDto;
+import com.navi.dto.SeasonStatsDto;
+import com.navi.entity.Match;
+import com.navi.entity.Player;
+import com.navi.entity.SeasonStats;
+import com.navi.repository.*;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회 API용 시즌 스냅샷 보관소
+ * - 읽기는 현재 스냅샷 참조만 가져가므로 DB 왕복 없음
+ * - 쓰기 트랜잭션이 커밋되면 바뀐 시즌만 표시해 두고, 갱신 전용 스레드가 DB에서 새 스냅샷을 만든 뒤 참조를 원자적으로 교체
+ *   (copy-on-write). 커밋한 요청 스레드는 기다리지 않고, 갱신 중에도 읽기는 이전 스냅샷으로 응답
+ * - 갱신 중 들어온 변경은 모아 두었다가 한 번에 다시 읽음 (한 번에 하나만 실행, 밀린 만큼 쌓이지 않음)
+ * - 교체가 끝나면 SnapshotRefreshedEvent 발행 (ETag·응답 캐시·순위 변경 알림은 새 스냅샷 기준)
+ * - 데이터는 시즌(연도)별 조각으로 보관하고, 경기 기록이 바뀌면 그 시즌 조각만 경기일 범위로 다시 읽음
+ * - 조각·다음 경기·선수 목록 조회는 SectionLoader 로 실행 (설정에 따라 섹션별 동시 조회)
+ * - 각 세대는 반영한 변경 기록 커서를 함께 보관 (증분 동기화 reset 응답이 스냅샷 목록과 맞는 버전을 주도록)
+ */
+@Slf4j
+@Component
+public class SeasonReadModel {
+
+    private final SeasonStatsRepository seasonStatsRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchRepository matchRepository;
+    private final MatchGoalAssistRepository goalAssistRepository;
+    private final MatchAttendanceRepository attendanceRepository;
+    private final NextMatchRepository nextMatchRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final SectionLoader sections;
+    private final ChangeCursor changeCursor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTx;
+
+    private final AtomicReference<State> current = new AtomicReference<>();
+    private final AtomicLong versionCounter = new AtomicLong();
+    /**
+     * 스냅샷 생성은 한 번에 하나씩 (최초 생성과 갱신 스레드가 겹치지 않도록).
+     * synchronized 대신 ReentrantLock: DB 조회 중 대기해도 가상 스레드가 캐리어 스레드에 고정되지 않음
+     */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /** 갱신 전용 스레드 (갱신은 항상 이 스레드에서 차례로) */
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "navi-read-model");
+        t.setDaemon(true);
+        return t;
+    });
+    /** 아직 반영하지 않은 변경: pendingLock 으로 보호 */
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition idle = pendingLock.newCondition();
+    private boolean pending;
+    /** 다시 읽을 시즌 (pendingAll 이면 전체) */
+    private final Set<Integer> pendingYears = new HashSet<>();
+    private boolean pendingAll;
+    /** 갱신 스레드에 작업이 걸려 있는지 (걸려 있으면 새 변경은 표시만 하고 그 작업이 이어서 처리) */
+    private boolean scheduled;
+
+    public SeasonReadModel(SeasonStatsRepository seasonStatsRepository, PlayerRepository playerRepository,
+                           MatchRepository matchRepository, MatchGoalAssistRepository goalAssistRepository,
+                           MatchAttendanceRepository attendanceRepository, NextMatchRepository nextMatchRepository,
+                           PlayerSeasonStatsRepository playerSeasonStatsRepository, SectionLoader sections,
+                           ChangeCursor changeCursor, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.seasonStatsRepository = seasonStatsRepository;
+        this.playerRepository = playerRepository;
+        this.matchRepository = matchRepository;
+        this.goalAssistRepository = goalAssistRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.nextMatchRepository = nextMatchRepository;
+        this.playerSeasonStatsRepository = playerSeasonStatsRepository;
+        this.sections = sections;
+        this.changeCursor = changeCursor;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 한 세대의 읽기 상태. 시즌별 스냅샷은 처음 요청될 때 조각에서 만들어 이 세대에만 보관
+     * (갱신되면 상태째로 바뀌므로 이전 세대 조각으로 만든 스냅샷이 섞이지 않음)
+     * changeCursor: 이 버전 이하의 변경 기록은 모두 이 세대에 반영됨
+     */
+    private record State(SeasonSnapshot all, Map<Integer, SeasonPartition> partitions,
+                         List<NextMatchDto> nextMatches, List<PlayerListItemDto> players,
+                         Map<Integer, SeasonSnapshot> bySeason, long changeCursor) {
+    }
+
+    /** 현재 전체 시즌 스냅샷 (아직 없으면 DB에서 생성) */
+    public SeasonSnapshot current() {
+        return state().all();
+    }
+
+    /** 한 시즌의 스냅샷 (seasonYear 가 null 이면 전체 시즌) */
+    public SeasonSnapshot season(Integer seasonYear) {
+        State state = state();
+        if (seasonYear == null) return state.all();
+        SeasonPartition partition = state.partitions().get(seasonYear);
+        if (partition == null) { // 기록 없는 연도는 보관하지 않고 빈 스냅샷으로 응답
+            return SeasonSnapshot.of(state.all().getVersion(), seasonYear, SeasonSnapshot.emptySeasonStats(seasonYear),
+                    state.nextMatches(), state.players(), List.of());
+        }
+        return state.bySeason().computeIfAbsent(seasonYear, y -> SeasonSnapshot.of(state.all().getVersion(), y,
+                partition.seasonStatsOrEmpty(), state.nextMatches(), state.players(), List.of(partition)));
+    }
+
+    /** 기록이 있는 시즌 전적 목록 (최근 시즌부터) */
+    public List<SeasonStatsDto> seasons() {
+        return state().partitions().values().stream()
+                .sorted(Comparator.comparingInt(SeasonPartition::seasonYear).reversed())
+                .map(SeasonPartition::seasonStatsOrEmpty)
+                .toList();
+    }
+
+    /** 현재 스냅샷이 반영한 변경 기록 버전 (전체 목록을 다시 받은 클라이언트가 이어 받을 since) */
+    public long changeCursor() {
+        return state().changeCursor();
+    }
+
+    private State state() {
+        State state = current.get();
+        if (state != null) return state;
+        loadLock.lock();
+        try {
+            state = current.get();
+            if (state == null) {
+                long cursor = changeCursor.committed(); // 전체를 읽으므로 지금까지 커밋된 변경은 모두 반영
+                state = readOnlyTx.execute(status -> load(null, null, cursor));
+                current.set(state);
+            }
+            return state;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /** 기동 완료 시 (초기 데이터 시드 이후) 스냅샷 미리 생성 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh(null, changeCursor.committed());
+    }
+
+    /** 쓰기 트랜잭션 커밋 후 바뀐 시즌을 표시하고 갱신 예약 (트랜잭션 밖에서 발행된 경우 즉시). 커밋한 스레드는 기다리지 않음 */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(SeasonDataChangedEvent event) {
+        pendingLock.lock();
+        try {
+            pending = true;
+            if (event.seasonYears() == null) pendingAll = true;
+            else pendingYears.addAll(event.seasonYears());
+            if (scheduled) return;
+            scheduled = true;
+        } finally {
+            pendingLock.unlock();
+        }
+        refresher.execute(this::drain);
+    }
+
+    /**
+     * 갱신 스레드: 표시된 변경이 없어질 때까지 모아서 다시 읽음.
+     * 커서는 표시를 가져가기 전에 잡음: 커서 이하의 트랜잭션은 onDataChanged 까지 끝났으므로 그 시즌이 이번 표시에 들어 있음
+     */
+    private void drain() {
+        while (true) {
+            Set<Integer> seasonYears;
+            long cursor;
+            pendingLock.lock();
+            try {
+                if (!pending) {
+                    scheduled = false;
+                    idle.signalAll();
+                    return;
+                }
+                cursor = changeCursor.committed();
+                seasonYears = pendingAll ? null : Set.copyOf(pendingYears);
+                pending = false;
+                pendingAll = false;
+                pendingYears.clear();
+            } finally {
+                pendingLock.unlock();
+            }
+            try {
+                refresh(seasonYears, cursor);
+            } catch (RuntimeException e) {
+                // 이전 스냅샷을 유지하고, 다음 변경 때 전체를 다시 읽음
+                log.error("시즌 스냅샷 갱신 실패 (이전 스냅샷 유지)", e);
+                pendingLock.lock();
+                try {
+                    pendingAll = true;
+                } finally {
+                    pendingLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약된 갱신이 모두 반영될 때까지 대기 (테스트·부하 측정에서 쓰기 직후 읽을 때).
+     * @return 시간 안에 끝나면 true
+     */
+    public boolean awaitRefresh(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        pendingLock.lock();
+        try {
+            while (scheduled) {
+                if (nanos <= 0) return false;
+                nanos = idle.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 새 스냅샷을 만들어 교체하고 SnapshotRefreshedEvent 발행.
+     * @param seasonYears 다시 읽을 시즌 (null 이면 전체)
+     * @param cursor 이 갱신으로 반영되는 변경 기록 버전
+     */
+    private void refresh(Set<Integer> seasonYears, long cursor) {
+        State state;
+        loadLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            state = readOnlyTx.execute(status -> load(current.get(), seasonYears, cursor));
+            current.set(state);
+            log.debug("시즌 스냅샷 갱신: 시즌 {}개, 경기 {}건, {}ms (동시 조회 {})", state.partitions().size(),
+                    state.all().getMatches().size(), System.currentTimeMillis() - start, sections.isParallel());
+        } finally {
+            loadLock.unlock();
+        }
+        eventPublisher.publishEvent(new SnapshotRefreshedEvent(state.all().getVersion(), seasonYears));
+    }
+
+    /** 이전 상태가 있으면 주어진 시즌 조각만 다시 읽고 나머지는 재사용 */
+    private State load(State previous, Set<Integer> seasonYears, long cursor) {
+        Map<Integer, SeasonPartition> partitions = new HashMap<>();
+        Set<Integer> reload;
+        if (previous == null || seasonYears == null) {
+            reload = new HashSet<>(matchRepository.findSeasonYears());
+            seasonStatsRepository.findAll().forEach(s -> reload.add(s.getSeasonYear()));
+        } else {
+            partitions.putAll(previous.partitions());
+            reload = seasonYears;
+        }
+        // 시즌 조각·다음 경기·선수 목록은 서로 독립이라 병렬 모드에서는 동시에 조회
+        Map<Integer, CompletableFuture<SeasonPartition>> loading = new HashMap<>();
+        for (Integer year : reload) {
+            loading.put(year, loadPartition(year));
+        }
+        CompletableFuture<List<NextMatchDto>> nextMatchesLoading = sections.fetch(() ->
+                nextMatchRepository.findAllByOrderByMatchDateAsc().stream()
+                        .map(m -> NextMatchDto.builder()
+                                .id(m.getId())
+                                .matchDate(m.getMatchDate())
+                                .matchTime(m.getMatchTime())
+                                .opponent(m.getOpponent())
+                                .venue(m.getVenue())
+                                .memo(m.getMemo())
+                                .build())
+                        .toList());
+        CompletableFuture<List<PlayerListItemDto>> playersLoading = sections.fetch(() ->
+                playerRepository.findAll().stream()
+                        .sorted(Comparator.comparing(Player::getName))
+                        .map(p -> PlayerListItemDto.builder()
+                                .id(p.getId())
+                                .name(p.getName())
+                                .phoneNumber(p.getPhoneNumber())
+                                .build())
+                        .toList());
+        loading.forEach((year, partitionLoading) -> {
+            SeasonPartition partition = partitionLoading.join();
+            if (partition.isEmpty()) partitions.remove(year);
+            else partitions.put(year, partition);
+        });
+        List<NextMatchDto> nextMatches = nextMatchesLoading.join();
+        List<PlayerListItemDto> players = playersLoading.join();
+        // 홈 화면 시즌 전적은 전적 행이 있는 가장 최근 시즌
+        SeasonStatsDto latestSeasonStats = partitions.values().stream()
+                .map(SeasonPartition::seasonStats)
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingInt(SeasonStatsDto::getSeasonYear))
+                .orElse(SeasonSnapshot.emptySeasonStats(Year.now().getValue()));
+        long version = versionCounter.incrementAndGet();
+        SeasonSnapshot all = SeasonSnapshot.of(version, null, latestSeasonStats, nextMatches, players,
+                partitions.values());
+        // 갱신 순서가 뒤바뀌지 않으므로 커서는 줄지 않지만, 최초 생성과 겹친 경우를 위해 이전 값 아래로는 내리지 않음
+        long changeCursor = previous != null ? Math.max(previous.changeCursor(), cursor) : cursor;
+        return new State(all, Map.copyOf(partitions), List.copyOf(nextMatches), List.copyOf(players),
+                new ConcurrentHashMap<>(), changeCursor);
+    }
+
+    /** 한 시즌 조각: 경기·출석·골/도움은 그 해 경기일 범위로, 순위 합계와 전적은 시즌 연도로만 조회 (다섯 조회는 서로 독립) */
+    private CompletableFuture<SeasonPartition> loadPartition(int seasonYear) {
+        LocalDate from = SeasonPartition.firstDay(seasonYear);
+        LocalDate to = SeasonPartition.lastDay(seasonYear);
+        CompletableFuture<SeasonStatsDto> seasonStats = sections.fetch(() ->
+                seasonStatsRepository.findBySeasonYear(seasonYear)
+                        .map(SeasonReadModel::toSeasonStatsDto)
+                        .orElse(null));
+        CompletableFuture<List<MatchDto>> matches = sections.fetch(() ->
+                matchRepository.findByMatchDateBetween(from, to).stream()
+                        .map(SeasonReadModel::toMatchDto)
+                        .toList());
+        CompletableFuture<List<AttendanceRow>> attendances = sections.fetch(() ->
+                attendanceRepository.findRowsByMatchDateBetween(from, to));
+        CompletableFuture<List<GoalAssistRow>> goalAssists = sections.fetch(() ->
+                goalAssistRepository.findRowsByMatchDateBetween(from, to));
+        CompletableFuture<List<PlayerTotals>> totals = sections.fetch(() ->
+                playerSeasonStatsRepository.sumGroupByPlayerForSeason(seasonYear));
+        return CompletableFuture.allOf(seasonStats, matches, attendances, goalAssists, totals)
+                .thenApply(done -> new SeasonPartition(seasonYear, seasonStats.join(), matches.join(),
+                        attendances.join(), goalAssists.join(), totals.join()));
+    }
+
+    private static SeasonStatsDto toSeasonStatsDto(SeasonStats s) {
+        return SeasonStatsDto.builder()
+                .seasonYear(s.getSeasonYear())
+                .totalMatches(s.getTotalMatches())
+                .wins(s.getWins())
+                .draws(s.getDraws())
+                .losses(s.getLosses())
+                .build();
+    }
+
+    private static MatchDto toMatchDto(Match m) {
+        return MatchDto.builder()
+                .id(m.getId())
+                .matchDate(m.getMatchDate())
+                .matchTime(m.getMatchTime())
+                .opponent(m.getOpponent())
+                .ourScore(m.getOurScore())
+                .opponentScore(m.getOpponentScore())
+                .result(m.getResult())
+                .version(m.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.navi.service;
+
+import com.navi.dto.*;
+import com.navi.repository.AttendanceRow;
+import com.navi.repository.GoalAssistRow;
+import com.navi.repository.PlayerTotals;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 시즌 데이터 읽기 전용 스냅샷 (불변)
+ * - 경기, 경기별 출석·골/도움, 선수 목록, 시즌 전적, 다음 경기, 순위를 한 번에 담음
+ * - 시즌 하나(seasonYear) 또는 전체 시즌 분량을 SeasonPartition 조각들로부터 만듦
+ * - 조회 API는 DB 대신 이 스냅샷에서 응답하고, 데이터가 바뀌면 새 스냅샷으로 통째로 교체됨
+ * - 담긴 DTO와 리스트는 여러 요청이 공유하므로 꺼내 쓴 쪽에서 수정하지 않음
+ */
+@Getter
+public final class SeasonSnapshot {
+
+    /** 스냅샷 세대 번호 (새로 만들 때마다 증가, 캐시 키 등에 사용) */
+    private final long version;
+    /** 담긴 시즌 (전체 시즌이면 null) */
+    private final Integer seasonYear;
+    private final SeasonStatsDto seasonStats;
+    private final List<NextMatchDto> nextMatches;
+    private final List<RankingDto> goalRanking;
+    private final List<RankingDto> assistRanking;
+    private final List<RankingDto> attendanceRanking;
+    /** 순위 계산에 쓴 선수별 합계 (선수 ID 순, 상위 N명만 따로 계산할 때 사용) */
+    private final List<PlayerTotals> totals;
+
+    /** 담긴 시즌의 경기 (경기일·ID 내림차순, 키셋 페이지 기준 순서) */
+    private final List<MatchDto> matches;
+    private final Map<Long, MatchDto> matchesById;
+    /** 경기 ID → 출석 기록 */
+    private final Map<Long, List<AttendanceRow>> attendanceByMatch;
+    /** 경기 ID → 골/도움 기록 (골, 도움 내림차순) */
+    private final Map<Long, List<GoalAssistRow>> goalAssistsByMatch;
+    private final List<GoalAssistLogDto> goalLogs;
+    private final List<AttendanceLogDto> attendanceLogs;
+
+    /** 전체 선수 (이름순) */
+    private final List<PlayerListItemDto> players;
+    private final Map<String, PlayerListItemDto> playersByName;
+    private final Map<Long, PlayerListItemDto> playersById;
+    /** 선수 ID → 출석한 경기 (경기일 내림차순) */
+    private final Map<Long, List<MatchDto>> attendedMatchesByPlayer;
+    /** 선수 ID → 골/도움 기록 (경기일 내림차순) */
+    private final Map<Long, List<GoalAssistRow>> goalAssistsByPlayer;
+
+    private SeasonSnapshot(long version, Integer seasonYear, SeasonStatsDto seasonStats, List<NextMatchDto> nextMatches,
+                           List<PlayerTotals> totals, List<MatchDto> matches, Map<Long, List<AttendanceRow>> attendanceByMatch,
+                           Map<Long, List<GoalAssistRow>> goalAssistsByMatch, List<PlayerListItemDto> players) {
+        this.version = version;
+        this.seasonYear = seasonYear;
+        this.seasonStats = seasonStats;
+        this.nextMatches = List.copyOf(nextMatches);
+        this.goalRanking = RankingCalculator.goalRanking(totals);
+        this.assistRanking = RankingCalculator.assistRanking(totals);
+        this.attendanceRanking = RankingCalculator.attendanceRanking(totals);
+        this.totals = List.copyOf(totals);
+        this.matches = List.copyOf(matches);
+        this.matchesById = this.matches.stream()
+                .collect(Collectors.toUnmodifiableMap(MatchDto::getId, m -> m));
+        this.attendanceByMatch = Map.copyOf(attendanceByMatch);
+        this.goalAssistsByMatch = Map.copyOf(goalAssistsByMatch);
+        this.players = List.copyOf(players);
+        this.playersByName = this.players.stream()
+                .collect(Collectors.toUnmodifiableMap(PlayerListItemDto::getName, p -> p));
+        this.playersById = this.players.stream()
+                .collect(Collectors.toUnmodifiableMap(PlayerListItemDto::getId, p -> p));
+        this.attendedMatchesByPlayer = indexAttendedMatchesByPlayer();
+        this.goalAssistsByPlayer = indexGoalAssistsByPlayer();
+        this.goalLogs = goalLogsOf(this.matches);
+        this.attendanceLogs = attendanceLogsOf(this.matches);
+    }
+
+    /**
+     * 시즌 조각들을 합쳐 스냅샷 생성 (DB 조회 없이 메모리에서만 합침).
+     * 순위는 선수별 합계를 시즌에 걸쳐 더한 값으로 계산
+     * @param seasonYear 시즌 하나만 담으면 그 연도, 전체 시즌이면 null
+     */
+    static SeasonSnapshot of(long version, Integer seasonYear, SeasonStatsDto seasonStats,
+                             List<NextMatchDto> nextMatches, List<PlayerListItemDto> players,
+                             Collection<SeasonPartition> partitions) {
+        List<MatchDto> matchDtos = partitions.stream()
+                .flatMap(p -> p.matches().stream())
+                .sorted(Comparator.comparing(MatchDto::getMatchDate).thenComparing(MatchDto::getId).reversed())
+                .toList();
+        Map<Long, List<AttendanceRow>> attendanceByMatch = partitions.stream()
+                .flatMap(p -> p.attendances().stream())
+                .collect(Collectors.groupingBy(AttendanceRow::matchId,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        Map<Long, List<GoalAssistRow>> goalAssistsByMatch = partitions.stream()
+                .flatMap(p -> p.goalAssists().stream())
+                .sorted(Comparator.comparingInt(GoalAssistRow::goals).reversed()
+                        .thenComparing(Comparator.comparingInt(GoalAssistRow::assists).reversed()))
+                .collect(Collectors.groupingBy(GoalAssistRow::matchId,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        return new SeasonSnapshot(version, seasonYear, seasonStats, nextMatches, sumTotals(partitions), matchDtos,
+                attendanceByMatch, goalAssistsByMatch, players);
+    }
+
+    /** 선수별 합계를 시즌에 걸쳐 더함 (선수 ID 순). 선수 ID → 자리 색인과 long 배열로 더해 중간 객체를 만들지 않음 */
+    private static List<PlayerTotals> sumTotals(Collection<SeasonPartition> partitions) {
+        if (partitions.size() == 1) return partitions.iterator().next().totals();
+        int capacity = partitions.stream().mapToInt(p -> p.totals().size()).sum();
+        LongIntHashMap slotOf = new LongIntHashMap(capacity);
+        PlayerTotals[] firstSeen = new PlayerTotals[capacity];
+        long[] goals = new long[capacity];
+        long[] assists = new long[capacity];
+        long[] appearances = new long[capacity];
+        for (SeasonPartition p : partitions) {
+            for (PlayerTotals t : p.totals()) {
+                int slot = slotOf.putIfAbsent(t.playerId(), slotOf.size());
+                if (firstSeen[slot] == null) firstSeen[slot] = t;
+                goals[slot] += t.goals();
+                assists[slot] += t.assists();
+                appearances[slot] += t.appearances();
+            }
+        }
+        long[] playerIds = new long[slotOf.size()];
+        for (int slot = 0; slot < playerIds.length; slot++) playerIds[slot] = firstSeen[slot].playerId();
+        Arrays.sort(playerIds);
+        List<PlayerTotals> result = new ArrayList<>(playerIds.length);
+        for (long playerId : playerIds) {
+            int slot = slotOf.get(playerId, -1);
+            result.add(new PlayerTotals(playerId, firstSeen[slot].name(), goals[slot], assists[slot], appearances[slot]));
+        }
+        return List.copyOf(result);
+    }
+
+    /** 전적 기록이 없는 시즌의 0승 0무 0패 */
+    static SeasonStatsDto emptySeasonStats(int seasonYear) {
+        return SeasonStatsDto.builder()
+                .seasonYear(seasonYear)
+                .totalMatches(0).wins(0).draws(0).losses(0)
+                .build();
+    }
+
+    public List<AttendanceRow> attendanceOf(Long matchId) {
+        return attendanceByMatch.getOrDefault(matchId, List.of());
+    }
+
+    public List<GoalAssistRow> goalAssistsOf(Long matchId) {
+        return goalAssistsByMatch.getOrDefault(matchId, List.of());
+    }
+
+    public List<MatchDto> attendedMatchesOf(Long playerId) {
+        return attendedMatchesByPlayer.getOrDefault(playerId, List.of());
+    }
+
+    public List<GoalAssistRow> goalAssistsOfPlayer(Long playerId) {
+        return goalAssistsByPlayer.getOrDefault(playerId, List.of());
+    }
+
+    /**
+     * 기간(from~to, 양끝 포함, null 이면 제한 없음) 안에서 커서 다음 경기부터 최대 limit 건 (경기일·ID 내림차순).
+     * 시작 위치는 이진 탐색으로 찾으므로 앞쪽 경기를 훑지 않음
+     */
+    public List<MatchDto> matchesBetween(LocalDate from, LocalDate to, MatchCursor after, int limit) {
+        int lo = 0;
+        int hi = matches.size();
+        while (lo < hi) { // 조건(to 이하 && 커서 이후)을 처음 만족하는 위치
+            int mid = (lo + hi) >>> 1;
+            if (startsAt(matches.get(mid), to, after)) hi = mid;
+            else lo = mid + 1;
+        }
+        List<MatchDto> page = new ArrayList<>();
+        for (int i = lo; i < matches.size() && page.size() < limit; i++) {
+            MatchDto m = matches.get(i);
+            if (from != null && m.getMatchDate().isBefore(from)) break;
+            page.add(m);
+        }
+        return page;
+    }
+
+    private static boolean startsAt(MatchDto m, LocalDate to, MatchCursor after) {
+        if (to != null && m.getMatchDate().isAfter(to)) return false;
+        if (after == null) return true;
+        int cmp = m.getMatchDate().compareTo(after.matchDate());
+        return cmp < 0 || (cmp == 0 && m.getId() < after.id());
+    }
+
+    public String playerName(Long playerId) {
+        PlayerListItemDto p = playersById.get(playerId);
+        return p != null ? p.getName() : "?";
+    }
+
+    private Map<Long, List<MatchDto>> indexAttendedMatchesByPlayer() {
+        Map<Long, List<MatchDto>> index = new HashMap<>();
+        for (MatchDto m : matches) {
+            for (AttendanceRow a : attendanceOf(m.getId())) {
+                if (a.attended()) index.computeIfAbsent(a.playerId(), k -> new ArrayList<>()).add(m);
+            }
+        }
+        return copyValues(index);
+    }
+
+    private Map<Long, List<GoalAssistRow>> indexGoalAssistsByPlayer() {
+        Map<Long, List<GoalAssistRow>> index = new HashMap<>();
+        for (MatchDto m : matches) {
+            for (GoalAssistRow ga : goalAssistsOf(m.getId())) {
+                index.computeIfAbsent(ga.playerId(), k -> new ArrayList<>()).add(ga);
+            }
+        }
+        return copyValues(index);
+    }
+
+    private static <T> Map<Long, List<T>> copyValues(Map<Long, List<T>> index) {
+        Map<Long, List<T>> copy = new HashMap<>();
+        index.forEach((k, v) -> copy.put(k, List.copyOf(v)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /** 골 탭: 주어진 경기들의 골/도움 로그 (경기 순서대로, 경기 내 골·도움 내림차순) */
+    public List<GoalAssistLogDto> goalLogsOf(List<MatchDto> matches) {
+        List<GoalAssistLogDto> list = new ArrayList<>();
+        for (MatchDto m : matches) {
+            goalAssistsOf(m.getId()).stream()
+                    .filter(ga -> ga.goals() > 0 || ga.assists() > 0)
+                    .forEach(ga -> list.add(GoalAssistLogDto.builder()
+                            .matchId(m.getId())
+                            .matchDate(m.getMatchDate())
+                            .opponent(m.getOpponent())
+                            .playerName(playerName(ga.playerId()))
+                            .goals(ga.goals())
+                            .assists(ga.assists())
+                            .build()));
+        }
+        return List.copyOf(list);
+    }
+
+    /** 출석 탭: 주어진 경기들의 출석 선수 목록 (경기 순서대로, 이름순) */
+    public List<AttendanceLogDto> attendanceLogsOf(List<MatchDto> matches) {
+        return matches.stream()
+                .map(m -> AttendanceLogDto.builder()
+                        .matchId(m.getId())
+                        .matchDate(m.getMatchDate())
+                        .opponent(m.getOpponent())
+                        .attendedPlayerNames(attendanceOf(m.getId()).stream()
+                                .filter(AttendanceRow::attended)
+                                .map(a -> playerName(a.playerId()))
+                                .sorted()
+                                .toList())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.navi.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 스냅샷 섹션(시즌별 경기·출석·골/도움·합계, 다음 경기, 선수 목록) 조회 실행기
+ * - navi.read-model.parallel-load=true 면 섹션마다 작업 실행기(applicationTaskExecutor)에서 각자 읽기 전용 트랜잭션으로 동시에 조회
+ *   (spring.threads.virtual.enabled=true 면 실행기가 가상 스레드라 섹션 수만큼 스레드를 늘려도 부담이 적음)
+ * - false 면 호출한 스레드·트랜잭션에서 차례로 조회 (기존 방식)
+ * - 병렬 모드는 섹션마다 트랜잭션이 달라 조회 도중 커밋된 쓰기가 일부 섹션에만 보일 수 있으나, 그 쓰기의 커밋 후 갱신에서 다시 맞춰짐
+ */
+@Component
+public class SectionLoader {
+
+    private final boolean parallel;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTx;
+
+    public SectionLoader(@Value("${navi.read-model.parallel-load:false}") boolean parallel,
+                         @Qualifier("applicationTaskExecutor") Executor executor,
+                         PlatformTransactionManager transactionManager) {
+        this.parallel = parallel;
+        this.executor = executor;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** 섹션 하나 조회 시작. 병렬 모드가 아니면 바로 실행해 완료된 결과를 돌려줌 */
+    public <T> CompletableFuture<T> fetch(Supplier<T> query) {
+        if (!parallel) return CompletableFuture.completedFuture(query.get());
+        return CompletableFuture.supplyAsync(() -> readOnlyTx.execute(status -> query.get()), executor);
+    }
+}
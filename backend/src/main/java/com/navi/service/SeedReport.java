@@ -0,0 +1,20 @@
+package com.navi.service;
+
+/**
+ * CSV 시드 결과 (새로 넣은 선수·경기·출석·골/도움 행 수와 소요 시간)
+ */
+public record SeedReport(boolean done, int players, int matches, int attendances, int goalAssists, long elapsedMs) {
+
+    /** 시드하지 않았거나 실패 */
+    public static SeedReport notDone() {
+        return new SeedReport(false, 0, 0, 0, 0, 0);
+    }
+
+    public int rows() {
+        return players + matches + attendances + goalAssists;
+    }
+
+    public long rowsPerSecond() {
+        return elapsedMs > 0 ? rows() * 1000L / elapsedMs : rows();
+    }
+}
@@ -0,0 +1,11 @@
+package com.navi.service;
+
+import java.util.Set;
+
+/**
+ * 시즌 스냅샷이 새것으로 교체됐음을 알리는 이벤트 (SeasonReadModel 갱신 스레드에서 교체 직후 발행)
+ * @param snapshotVersion 새 스냅샷 버전
+ * @param seasonYears 다시 읽은 시즌 (null 이면 전체)
+ */
+public record SnapshotRefreshedEvent(long snapshotVersion, Set<Integer> seasonYears) {
+}
@@ -0,0 +1,52 @@
+package com.navi.service;
+
+import com.navi.dto.GoalAssistRecordItemDto;
+import com.navi.dto.MatchAttendanceDto;
+import com.navi.dto.MatchDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실시간 스트림(/api/stream)으로 보낼 변경 한 건 (NaviService 쓰기 메서드가 발행, 커밋 후 LiveStreamService 가 전송)
+ * @param name SSE 이벤트 이름
+ * @param data JSON 으로 보낼 내용 (필요한 필드만)
+ */
+public record StreamEvent(String name, Object data) {
+
+    public static StreamEvent matchCreated(MatchDto match) {
+        return new StreamEvent("match-created", match);
+    }
+
+    public static StreamEvent matchUpdated(MatchDto match) {
+        return new StreamEvent("match-updated", match);
+    }
+
+    public static StreamEvent matchDeleted(Long matchId, int seasonYear) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("matchId", matchId);
+        data.put("seasonYear", seasonYear);
+        return new StreamEvent("match-deleted", data);
+    }
+
+    public static StreamEvent seasonDeleted(int seasonYear, int deletedMatches) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("seasonYear", seasonYear);
+        data.put("deletedMatches", deletedMatches);
+        return new StreamEvent("season-deleted", data);
+    }
+
+    public static StreamEvent attendance(MatchAttendanceDto attendance) {
+        return new StreamEvent("attendance", attendance);
+    }
+
+    /** 경기 중 선수 한 명의 골/도움 (증감 후 값) */
+    public static StreamEvent goalAssist(Long matchId, GoalAssistRecordItemDto record) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("matchId", matchId);
+        data.put("playerId", record.getPlayerId());
+        data.put("goals", record.getGoals());
+        data.put("assists", record.getAssists());
+        return new StreamEvent("goal-assist", data);
+    }
+}
@@ -0,0 +1,20 @@
+package com.navi.service;
+
+import java.util.List;
+
+/**
+ * CSV 재동기화 결과 (새 선수 수, 경기별 추가·변경·동일·삭제 건수, 반영하지 않은 충돌, 소요 시간)
+ * - conflicts: 같은 경기일·상대팀의 키 없는 경기가 관리자 등록이거나 내용이 달라 CSV 행을 반영하지 않은 경기 ID
+ */
+public record SyncReport(boolean done, int players, int inserted, int updated, int unchanged, int deleted,
+                         List<Long> conflicts, long elapsedMs) {
+
+    /** 동기화하지 않았거나 실패 (변경 사항은 롤백됨) */
+    public static SyncReport notDone() {
+        return new SyncReport(false, 0, 0, 0, 0, 0, List.of(), 0);
+    }
+
+    public boolean changed() {
+        return players + inserted + updated + deleted > 0;
+    }
+}
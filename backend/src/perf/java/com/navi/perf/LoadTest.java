@@ -0,0 +1,274 @@
+package com.navi.perf;
+
+import com.navi.service.PlayerStatsService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 내장 부하 테스트 (인터넷 없이 실행, MySQL 모드 인메모리 H2)
+ * - 앱을 임의 포트로 띄우고 합성 데이터(선수·경기·출석·골/도움)를 JDBC로 넣은 뒤 선수별 누적·스냅샷을 다시 만듦
+ * - 동시 클라이언트가 정해진 시간 동안 조회 API를 돌아가며 호출하고, API별 처리량과 p50/p95/p99 를 출력
+ * - API별 p99 가 예산을 넘거나 오류 응답이 있으면 종료 코드 1 (빌드 실패)
+ * 설정은 시스템 프로퍼티 (pom.xml perf 프로필의 load.* 값, 예: -Dload.clients=64 -Dload.budgets=home=50,player=30)
+ */
+public final class LoadTest {
+
+    private static final long ID_BASE = 10_000_000L;
+
+    /** 부하 대상 API (i 는 호출 순번, 선수 상세 등에서 대상을 바꾸는 데 사용) */
+    private record Endpoint(String name, IntFunction<String> path) {
+    }
+
+    private record Result(String endpoint, int count, int errors, double throughput,
+                          double p50, double p95, double p99, double max, long budgetMs) {
+
+        boolean withinBudget() {
+            return errors == 0 && p99 <= budgetMs;
+        }
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 16);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int seconds = Integer.getInteger("load.seconds", 20);
+        int players = Integer.getInteger("load.players", 200);
+        int matches = Integer.getInteger("load.matches", 2000);
+        int goalRows = Integer.getInteger("load.goalRows", 40000);
+        int attendeesPerMatch = Integer.getInteger("load.attendeesPerMatch", 15);
+        long defaultBudgetMs = Long.getLong("load.budget", 250);
+        Map<String, Long> budgets = parseBudgets(System.getProperty("load.budgets", ""));
+        String report = System.getProperty("load.report", "target/load-test-result.json");
+
+        ConfigurableApplicationContext context = PerfContext.start("load-test", true,
+                "spring.threads.virtual.enabled=" + Boolean.getBoolean("load.virtualThreads"),
+                "navi.read-model.parallel-load=" + Boolean.getBoolean("load.parallelLoad"));
+        int exitCode;
+        try {
+            long seedStart = System.nanoTime();
+            List<String> playerNames = seed(context, players, matches, goalRows, attendeesPerMatch);
+            System.out.printf("시드: 선수 %d, 경기 %d, 골/도움 %d행, %dms%n", players, matches, goalRows,
+                    (System.nanoTime() - seedStart) / 1_000_000);
+
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            List<Endpoint> endpoints = List.of(
+                    new Endpoint("home", i -> "/home"),
+                    new Endpoint("matches", i -> "/matches"),
+                    new Endpoint("goals", i -> "/goals"),
+                    new Endpoint("attendance", i -> "/attendance"),
+                    new Endpoint("player", i -> "/player/" + encode(playerNames.get(i % playerNames.size()))));
+
+            run(base, endpoints, clients, warmupSeconds); // JIT·캐시 워밍업, 결과 버림
+            Map<String, long[]> latencies = new LinkedHashMap<>();
+            Map<String, Integer> errors = new HashMap<>();
+            run(base, endpoints, clients, seconds, latencies, errors);
+
+            List<Result> results = new ArrayList<>();
+            for (Endpoint endpoint : endpoints) {
+                long[] nanos = latencies.getOrDefault(endpoint.name(), new long[0]);
+                Arrays.sort(nanos);
+                long budget = budgets.getOrDefault(endpoint.name(), defaultBudgetMs);
+                results.add(new Result(endpoint.name(), nanos.length, errors.getOrDefault(endpoint.name(), 0),
+                        nanos.length / (double) seconds, millis(percentile(nanos, 0.50)),
+                        millis(percentile(nanos, 0.95)), millis(percentile(nanos, 0.99)),
+                        millis(nanos.length > 0 ? nanos[nanos.length - 1] : 0), budget));
+            }
+            print(results, clients, seconds);
+            writeJson(Path.of(report), results, clients, seconds);
+            exitCode = results.stream().allMatch(Result::withinBudget) ? 0 : 1;
+            if (exitCode != 0) System.out.println("지연 예산 초과 또는 오류 응답 있음");
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    /** 합성 데이터를 JDBC 배치로 넣고 선수별 누적·스냅샷을 다시 만듦. 선수 이름 목록 반환 */
+    private static List<String> seed(ConfigurableApplicationContext context, int players, int matches, int goalRows,
+                                     int attendeesPerMatch) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<String> names = new ArrayList<>();
+        List<Object[]> playerRows = new ArrayList<>();
+        for (int i = 1; i <= players; i++) {
+            names.add("부하선수" + i);
+            playerRows.add(new Object[]{"부하선수" + i});
+        }
+        jdbc.batchUpdate("INSERT INTO player (name) VALUES (?)", playerRows);
+        List<Long> playerIds = jdbc.queryForList("SELECT id FROM player WHERE name LIKE '부하선수%' ORDER BY id",
+                Long.class);
+
+        Random random = new Random(42);
+        int years = 10;
+        int firstYear = LocalDate.now().getYear() - years;
+        int goalRowsPerMatch = Math.max(1, goalRows / Math.max(1, matches));
+        int attendees = Math.min(attendeesPerMatch, playerIds.size());
+        List<Object[]> games = new ArrayList<>();
+        List<Object[]> attendances = new ArrayList<>();
+        List<Object[]> goalAssists = new ArrayList<>();
+        Map<Integer, int[]> seasonCounts = new TreeMap<>(); // 연도 → [경기, 승, 무, 패]
+        long rowId = ID_BASE;
+        for (int m = 0; m < matches; m++) {
+            long matchId = ID_BASE + m;
+            int year = firstYear + m % years;
+            int ours = random.nextInt(6);
+            int theirs = random.nextInt(6);
+            String result = ours > theirs ? "승" : ours == theirs ? "무" : "패";
+            int[] counts = seasonCounts.computeIfAbsent(year, y -> new int[4]);
+            counts[0]++;
+            counts["승".equals(result) ? 1 : "무".equals(result) ? 2 : 3]++;
+            games.add(new Object[]{matchId, Date.valueOf(LocalDate.of(year, 1, 1).plusDays(m / years % 365)),
+                    "상대" + random.nextInt(50), ours, theirs, result});
+            int offset = random.nextInt(playerIds.size());
+            for (int a = 0; a < attendees; a++) {
+                attendances.add(new Object[]{rowId++, matchId, playerIds.get((offset + a) % playerIds.size())});
+            }
+            for (int g = 0; g < goalRowsPerMatch; g++) {
+                int goals = random.nextInt(3);
+                goalAssists.add(new Object[]{rowId++, matchId,
+                        playerIds.get((offset + random.nextInt(attendees)) % playerIds.size()),
+                        goals, goals == 0 ? 1 : random.nextInt(2)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO game (id, match_date, opponent, our_score, opponent_score, result, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", games);
+        jdbc.batchUpdate("INSERT INTO match_attendance (id, match_id, player_id, attended) VALUES (?, ?, ?, TRUE)",
+                attendances);
+        jdbc.batchUpdate("INSERT INTO match_goal_assist (id, match_id, player_id, goals, assists) VALUES (?, ?, ?, ?, ?)",
+                goalAssists);
+        seasonCounts.forEach((year, c) -> {
+            jdbc.update("DELETE FROM season_stats WHERE season_year = ?", year);
+            jdbc.update("INSERT INTO season_stats (season_year, total_matches, wins, draws, losses) VALUES (?, ?, ?, ?, ?)",
+                    year, c[0], c[1], c[2], c[3]);
+        });
+        // 선수별 누적 재계산 (커밋 후 전체 스냅샷 갱신 이벤트가 나감)
+        context.getBean(PlayerStatsService.class).rebuild();
+        return names;
+    }
+
+    private static void run(String base, List<Endpoint> endpoints, int clients, int seconds) throws InterruptedException {
+        run(base, endpoints, clients, seconds, new HashMap<>(), new HashMap<>());
+    }
+
+    /** clients 개 스레드가 seconds 초 동안 API를 돌아가며 호출. API별 지연(ns)과 오류 수를 모음 */
+    private static void run(String base, List<Endpoint> endpoints, int clients, int seconds,
+                            Map<String, long[]> latencies, Map<String, Integer> errors) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Map<String, List<Long>>> perClient = Collections.synchronizedList(new ArrayList<>());
+        List<Map<String, Integer>> errorsPerClient = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            pool.execute(() -> {
+                Map<String, List<Long>> mine = new HashMap<>();
+                Map<String, Integer> myErrors = new HashMap<>();
+                int i = ThreadLocalRandom.current().nextInt(1_000);
+                while (System.nanoTime() < deadline) {
+                    Endpoint endpoint = endpoints.get(i % endpoints.size());
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + endpoint.path().apply(i / endpoints.size())))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        long elapsed = System.nanoTime() - start;
+                        if (response.statusCode() != 200) myErrors.merge(endpoint.name(), 1, Integer::sum);
+                        mine.computeIfAbsent(endpoint.name(), k -> new ArrayList<>()).add(elapsed);
+                    } catch (IOException e) {
+                        myErrors.merge(endpoint.name(), 1, Integer::sum);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    i++;
+                }
+                perClient.add(mine);
+                errorsPerClient.add(myErrors);
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        Map<String, List<Long>> merged = new HashMap<>();
+        perClient.forEach(m -> m.forEach((k, v) -> merged.computeIfAbsent(k, x -> new ArrayList<>()).addAll(v)));
+        merged.forEach((k, v) -> latencies.put(k, v.stream().mapToLong(Long::longValue).toArray()));
+        errorsPerClient.forEach(m -> m.forEach((k, v) -> errors.merge(k, v, Integer::sum)));
+    }
+
+    /** "home=50,player=30" → API별 p99 예산(ms) */
+    private static Map<String, Long> parseBudgets(String spec) {
+        Map<String, Long> budgets = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) continue;
+            budgets.put(entry.substring(0, eq).trim(), Long.parseLong(entry.substring(eq + 1).trim()));
+        }
+        return budgets;
+    }
+
+    /** 정렬된 배열의 q 분위수 (nearest-rank) */
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(q * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static void print(List<Result> results, int clients, int seconds) {
+        System.out.printf("클라이언트 %d, %d초%n", clients, seconds);
+        System.out.printf("%-12s %8s %6s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "count", "err", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "budget");
+        for (Result r : results) {
+            System.out.printf("%-12s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f %8d %s%n", r.endpoint(), r.count(),
+                    r.errors(), r.throughput(), r.p50(), r.p95(), r.p99(), r.max(), r.budgetMs(),
+                    r.withinBudget() ? "OK" : "FAIL");
+        }
+    }
+
+    private static void writeJson(Path path, List<Result> results, int clients, int seconds) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"clients\":").append(clients).append(",\"seconds\":").append(seconds).append(",\"endpoints\":[");
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            if (i > 0) json.append(',');
+            json.append(String.format(Locale.ROOT,
+                    "{\"name\":\"%s\",\"count\":%d,\"errors\":%d,\"throughput\":%.1f,"
+                            + "\"p50Ms\":%.3f,\"p95Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f,\"budgetMs\":%d,\"ok\":%b}",
+                    r.endpoint(), r.count(), r.errors(), r.throughput(), r.p50(), r.p95(), r.p99(), r.max(),
+                    r.budgetMs(), r.withinBudget()));
+        }
+        json.append("]}");
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        Files.writeString(path, json.toString());
+    }
+}
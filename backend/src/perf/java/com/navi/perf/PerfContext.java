@@ -0,0 +1,42 @@
+package com.navi.perf;
+
+import com.navi.NaviApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 앱 컨텍스트 (MySQL 모드 인메모리 H2)
+ * - 스키마는 엔티티에서 생성(create-drop)하고, 기동 시 CSV 초기 데이터가 들어감
+ * - 웹 서버가 필요하면 임의 포트로 띄움 (server.port=0, 관리 포트도 임의)
+ */
+public final class PerfContext {
+
+    private PerfContext() {
+    }
+
+    /**
+     * @param name  인메모리 DB 이름 (벤치마크마다 따로)
+     * @param web   내장 웹 서버를 띄울지
+     * @param extraProperties 추가 설정 ("key=value")
+     */
+    public static ConfigurableApplicationContext start(String name, boolean web, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "server.port=0",
+                "management.server.port=0",
+                "logging.level.root=WARN"));
+        properties.addAll(List.of(extraProperties));
+        return new SpringApplicationBuilder(NaviApplication.class)
+                .web(web ? WebApplicationType.SERVLET : WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.navi.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * response.csv 셀 파싱 벤치마크: 기존 정규식·DateTimeFormatter 방식(legacy) vs CsvCellParser
+ * - 과거 폼 응답 대량 백필을 가정한 합성 데이터 (경기 rows 건, 경기당 골/도움 줄 여러 개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvCellParserBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private String[] goalAssistCells;
+    private String[] dateCells;
+    private String[] numberCells;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] names = new String[200];
+        for (int i = 0; i < names.length; i++) names[i] = "선수" + i;
+        goalAssistCells = new String[rows];
+        dateCells = new String[rows];
+        numberCells = new String[rows];
+        for (int r = 0; r < rows; r++) {
+            StringBuilder sb = new StringBuilder();
+            int lines = 2 + random.nextInt(6);
+            for (int l = 0; l < lines; l++) {
+                if (l > 0) sb.append('\n');
+                sb.append(names[random.nextInt(names.length)]).append(' ');
+                switch (random.nextInt(3)) {
+                    case 0 -> sb.append(1 + random.nextInt(3)).append("골");
+                    case 1 -> sb.append(1 + random.nextInt(2)).append("도움");
+                    default -> sb.append(1 + random.nextInt(3)).append("골 ").append(1 + random.nextInt(2)).append("도움");
+                }
+            }
+            goalAssistCells[r] = sb.toString();
+            LocalDate d = LocalDate.of(2010, 1, 1).plusDays(r);
+            dateCells[r] = random.nextBoolean()
+                    ? d.getYear() + ". " + d.getMonthValue() + ". " + d.getDayOfMonth()
+                    : d.getYear() + "." + d.getMonthValue() + "." + d.getDayOfMonth();
+            numberCells[r] = String.valueOf(random.nextInt(10));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        for (int r = 0; r < rows; r++) {
+            bh.consume(Legacy.parseGoalAssists(goalAssistCells[r]));
+            bh.consume(Legacy.parseDate(dateCells[r]));
+            bh.consume(Legacy.parseInt(numberCells[r], 0));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        for (int r = 0; r < rows; r++) {
+            bh.consume(CsvCellParser.parseGoalAssists(goalAssistCells[r]));
+            bh.consume(CsvCellParser.parseDate(dateCells[r]));
+            bh.consume(CsvCellParser.parseInt(numberCells[r], 0));
+        }
+    }
+
+    /** CsvSeedService 에 있던 기존 파싱 (비교 기준) */
+    static final class Legacy {
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy. M. d");
+        private static final DateTimeFormatter DATE_FORMAT_NO_SPACE = DateTimeFormatter.ofPattern("yyyy.M.d");
+        private static final Pattern GOAL_PATTERN = Pattern.compile("(\\d+)골");
+        private static final Pattern ASSIST_PATTERN = Pattern.compile("(\\d+)도움");
+
+        static List<CsvCellParser.GoalAssist> parseGoalAssists(String text) {
+            List<CsvCellParser.GoalAssist> result = new ArrayList<>();
+            for (String line : text.split("\n")) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                int idx = line.lastIndexOf(' ');
+                if (idx <= 0) continue;
+                String playerName = line.substring(0, idx).trim();
+                String rest = line.substring(idx + 1).trim();
+                Matcher g = GOAL_PATTERN.matcher(rest);
+                Matcher a = ASSIST_PATTERN.matcher(rest);
+                int goalCount = g.find() ? parseInt(g.group(1), 0) : 0;
+                int assistCount = a.find() ? parseInt(a.group(1), 0) : 0;
+                if (goalCount > 0 || assistCount > 0) {
+                    result.add(new CsvCellParser.GoalAssist(playerName, goalCount, assistCount));
+                }
+            }
+            return result;
+        }
+
+        static LocalDate parseDate(String s) {
+            if (s == null || s.isEmpty()) return null;
+            try {
+                return LocalDate.parse(s.trim().replace(" ", ""), DATE_FORMAT_NO_SPACE);
+            } catch (Exception e1) {
+                try {
+                    return LocalDate.parse(s.trim(), DATE_FORMAT);
+                } catch (Exception e2) {
+                    return null;
+                }
+            }
+        }
+
+        static int parseInt(String s, int defaultValue) {
+            if (s == null || s.isEmpty()) return defaultValue;
+            try {
+                return Integer.parseInt(s.trim().replaceAll("[^0-9-]", ""));
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+    }
+}
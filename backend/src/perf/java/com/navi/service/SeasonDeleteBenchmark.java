@@ -0,0 +1,136 @@
+package com.navi.service;
+
+import com.navi.entity.Match;
+import com.navi.perf.PerfContext;
+import com.navi.repository.MatchAttendanceRepository;
+import com.navi.repository.MatchGoalAssistRepository;
+import com.navi.repository.MatchRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 시즌(경기 matches 건, 출석·골/도움 수천 행) 삭제 시간 비교
+ * - entityByEntity: 기존 방식 (자식 엔티티를 읽어 한 건씩 delete)
+ * - bulkPerMatch: 경기마다 자식 테이블 DELETE 한 문장 (deleteMatch 경로)
+ * - bulkSeason: 시즌 경기일 범위로 테이블마다 DELETE 한 문장 (deleteSeason 경로)
+ * 매 실행 전에 같은 시즌 데이터를 JDBC로 다시 넣음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SeasonDeleteBenchmark {
+
+    private static final int SEASON = 2030;
+    /** 시퀀스로 발급되는 ID와 겹치지 않도록 큰 값부터 직접 지정 */
+    private static final long ID_BASE = 10_000_000L;
+
+    @Param({"200"})
+    public int matches;
+
+    @Param({"15"})
+    public int attendeesPerMatch;
+
+    @Param({"5"})
+    public int goalRowsPerMatch;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate tx;
+    private MatchRepository matchRepository;
+    private MatchAttendanceRepository attendanceRepository;
+    private MatchGoalAssistRepository goalAssistRepository;
+    private List<Long> playerIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = PerfContext.start("season-delete", false);
+        jdbc = context.getBean(JdbcTemplate.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        matchRepository = context.getBean(MatchRepository.class);
+        attendanceRepository = context.getBean(MatchAttendanceRepository.class);
+        goalAssistRepository = context.getBean(MatchGoalAssistRepository.class);
+        playerIds = jdbc.queryForList("SELECT id FROM player ORDER BY id", Long.class);
+        for (int i = playerIds.size(); i < attendeesPerMatch; i++) {
+            jdbc.update("INSERT INTO player (name) VALUES (?)", "벤치선수" + i);
+        }
+        playerIds = jdbc.queryForList("SELECT id FROM player ORDER BY id", Long.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void seedSeason() {
+        List<Object[]> games = new ArrayList<>();
+        List<Object[]> attendances = new ArrayList<>();
+        List<Object[]> goalAssists = new ArrayList<>();
+        long rowId = ID_BASE;
+        LocalDate first = LocalDate.of(SEASON, 1, 1);
+        for (int m = 0; m < matches; m++) {
+            long matchId = ID_BASE + m;
+            games.add(new Object[]{matchId, Date.valueOf(first.plusDays(m % 365)), "상대" + m, 2, 1, "승"});
+            for (int a = 0; a < attendeesPerMatch; a++) {
+                attendances.add(new Object[]{rowId++, matchId, playerIds.get((m + a) % playerIds.size())});
+            }
+            for (int g = 0; g < goalRowsPerMatch; g++) {
+                goalAssists.add(new Object[]{rowId++, matchId, playerIds.get((m + g) % playerIds.size()), 1, 1});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO game (id, match_date, opponent, our_score, opponent_score, result, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", games);
+        jdbc.batchUpdate("INSERT INTO match_attendance (id, match_id, player_id, attended) VALUES (?, ?, ?, TRUE)",
+                attendances);
+        jdbc.batchUpdate("INSERT INTO match_goal_assist (id, match_id, player_id, goals, assists) VALUES (?, ?, ?, ?, ?)",
+                goalAssists);
+    }
+
+    @Benchmark
+    public void entityByEntity() {
+        tx.executeWithoutResult(status -> {
+            for (Match match : matchRepository.findByMatchDateBetween(SeasonPartition.firstDay(SEASON),
+                    SeasonPartition.lastDay(SEASON))) {
+                attendanceRepository.findByMatchId(match.getId()).forEach(attendanceRepository::delete);
+                goalAssistRepository.findByMatchIdOrderByGoalsDescAssistsDesc(match.getId())
+                        .forEach(goalAssistRepository::delete);
+                matchRepository.delete(match);
+            }
+        });
+    }
+
+    @Benchmark
+    public void bulkPerMatch() {
+        tx.executeWithoutResult(status -> {
+            for (Match match : matchRepository.findByMatchDateBetween(SeasonPartition.firstDay(SEASON),
+                    SeasonPartition.lastDay(SEASON))) {
+                attendanceRepository.bulkDeleteByMatchId(match.getId());
+                goalAssistRepository.bulkDeleteByMatchId(match.getId());
+                matchRepository.delete(match);
+            }
+        });
+    }
+
+    @Benchmark
+    public void bulkSeason() {
+        tx.executeWithoutResult(status -> {
+            LocalDate from = SeasonPartition.firstDay(SEASON);
+            LocalDate to = SeasonPartition.lastDay(SEASON);
+            goalAssistRepository.bulkDeleteByMatchDateBetween(from, to);
+            attendanceRepository.bulkDeleteByMatchDateBetween(from, to);
+            matchRepository.bulkDeleteByMatchDateBetween(from, to);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
@@ -0,0 +1,110 @@
+package com.navi.service;
+
+import com.navi.dto.MatchDto;
+import com.navi.dto.PlayerListItemDto;
+import com.navi.repository.PlayerTotals;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순위 계산·스냅샷 조립·선수 상세·로그 생성 벤치마크 (합성 데이터, DB 없음)
+ * - 기본 200명, 경기 5,000건, 골/도움 100,000행, 경기당 출석 15명, 10개 시즌
+ * - 순위 코드를 바꿀 때 target/jmh-result.json 을 이전 결과와 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"200"})
+    public int players;
+
+    @Param({"5000"})
+    public int matches;
+
+    @Param({"100000"})
+    public int goalRows;
+
+    @Param({"15"})
+    public int attendeesPerMatch;
+
+    @Param({"10"})
+    public int years;
+
+    @Param({"10"})
+    public int topK;
+
+    private SyntheticSeason data;
+    private List<PlayerTotals> totals;
+    private SeasonSnapshot snapshot;
+    private List<MatchDto> page;
+    private int nextPlayer;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticSeason.generate(players, matches, goalRows, attendeesPerMatch, years, 42);
+        totals = data.totals();
+        snapshot = data.snapshot(1);
+        page = snapshot.matchesBetween(null, null, null, 50);
+    }
+
+    @Benchmark
+    public Object toRankingList() {
+        return RankingCalculator.toRankingList(totals, PlayerTotals::goals);
+    }
+
+    /** 홈 limit 파라미터 경로: 최소 힙으로 상위 topK 명(+ 동점자)만 골라 정렬 */
+    @Benchmark
+    public Object toRankingListTopK() {
+        return RankingCalculator.toRankingList(totals, PlayerTotals::goals, topK);
+    }
+
+    @Benchmark
+    public void rankings(Blackhole bh) {
+        bh.consume(RankingCalculator.goalRanking(totals));
+        bh.consume(RankingCalculator.assistRanking(totals));
+        bh.consume(RankingCalculator.attendanceRanking(totals));
+    }
+
+    /** 전체 시즌 스냅샷 생성 (순위·색인·로그 포함, 쓰기 커밋마다 실행되는 부분) */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object snapshotAssembly() {
+        return data.snapshot(2);
+    }
+
+    /** 선수 상세 조립 (선수를 돌아가며) */
+    @Benchmark
+    public Object playerDetail() {
+        List<PlayerListItemDto> list = snapshot.getPlayers();
+        PlayerListItemDto player = list.get(nextPlayer++ % list.size());
+        return NaviService.toPlayerDetail(snapshot, player);
+    }
+
+    /** 전체 경기의 골/도움 로그 */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object goalLogsAll() {
+        return snapshot.goalLogsOf(snapshot.getMatches());
+    }
+
+    /** 전체 경기의 출석 로그 */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object attendanceLogsAll() {
+        return snapshot.attendanceLogsOf(snapshot.getMatches());
+    }
+
+    /** 키셋 한 페이지(50경기)의 골/도움·출석 로그 */
+    @Benchmark
+    public void logsPage(Blackhole bh) {
+        bh.consume(snapshot.goalLogsOf(page));
+        bh.consume(snapshot.attendanceLogsOf(page));
+    }
+}
@@ -0,0 +1,98 @@
+package com.navi.service;
+
+import com.navi.dto.MatchDto;
+import com.navi.dto.PlayerListItemDto;
+import com.navi.repository.AttendanceRow;
+import com.navi.repository.GoalAssistRow;
+import com.navi.repository.PlayerTotals;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 벤치마크용 합성 데이터 (DB 없이 시즌 조각·선수 목록을 메모리에서 생성, 같은 seed 면 같은 데이터)
+ * - 경기는 years 개 시즌에 고르게 나누고, 출석·골/도움 행은 경기마다 같은 수만큼 무작위 선수로 채움
+ * - 선수별 합계(PlayerTotals)는 생성한 행에서 직접 계산
+ */
+final class SyntheticSeason {
+
+    final List<PlayerListItemDto> players;
+    final List<SeasonPartition> partitions;
+
+    private SyntheticSeason(List<PlayerListItemDto> players, List<SeasonPartition> partitions) {
+        this.players = players;
+        this.partitions = partitions;
+    }
+
+    static SyntheticSeason generate(int playerCount, int matchCount, int goalRows, int attendeesPerMatch,
+                                    int years, long seed) {
+        Random random = new Random(seed);
+        List<PlayerListItemDto> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(PlayerListItemDto.builder().id((long) i + 1).name("선수" + (i + 1)).build());
+        }
+        int lastYear = LocalDate.now().getYear();
+        int goalRowsPerMatch = Math.max(1, goalRows / matchCount);
+        List<SeasonPartition> partitions = new ArrayList<>();
+        long matchId = 1;
+        for (int y = 0; y < years; y++) {
+            int year = lastYear - years + 1 + y;
+            int matchesInYear = matchCount / years + (y < matchCount % years ? 1 : 0);
+            List<MatchDto> matches = new ArrayList<>();
+            List<AttendanceRow> attendances = new ArrayList<>();
+            List<GoalAssistRow> goalAssists = new ArrayList<>();
+            Map<Long, long[]> sums = new TreeMap<>(); // playerId → [goals, assists, appearances]
+            for (int m = 0; m < matchesInYear; m++, matchId++) {
+                int ours = random.nextInt(6);
+                int theirs = random.nextInt(6);
+                matches.add(MatchDto.builder()
+                        .id(matchId)
+                        .matchDate(LocalDate.of(year, 1, 1).plusDays(m % 365))
+                        .opponent("상대" + random.nextInt(50))
+                        .ourScore(ours)
+                        .opponentScore(theirs)
+                        .result(ours > theirs ? "승" : ours == theirs ? "무" : "패")
+                        .build());
+                int offset = random.nextInt(playerCount);
+                for (int a = 0; a < attendeesPerMatch; a++) {
+                    long playerId = (offset + a) % playerCount + 1;
+                    attendances.add(new AttendanceRow(matchId, playerId, true));
+                    sums.computeIfAbsent(playerId, k -> new long[3])[2]++;
+                }
+                for (int g = 0; g < goalRowsPerMatch; g++) {
+                    long playerId = (offset + random.nextInt(attendeesPerMatch)) % playerCount + 1;
+                    int goals = random.nextInt(3);
+                    int assists = goals == 0 ? 1 : random.nextInt(2);
+                    goalAssists.add(new GoalAssistRow(matchId, playerId, goals, assists));
+                    long[] sum = sums.computeIfAbsent(playerId, k -> new long[3]);
+                    sum[0] += goals;
+                    sum[1] += assists;
+                }
+            }
+            List<PlayerTotals> totals = new ArrayList<>();
+            sums.forEach((playerId, sum) -> totals.add(new PlayerTotals(playerId, "선수" + playerId,
+                    sum[0], sum[1], sum[2])));
+            partitions.add(new SeasonPartition(year, SeasonSnapshot.emptySeasonStats(year), matches, attendances,
+                    goalAssists, totals));
+        }
+        return new SyntheticSeason(List.copyOf(players), List.copyOf(partitions));
+    }
+
+    /** 모든 시즌을 합친 스냅샷 */
+    SeasonSnapshot snapshot(long version) {
+        return SeasonSnapshot.of(version, null, partitions.get(partitions.size() - 1).seasonStatsOrEmpty(),
+                List.of(), players, partitions);
+    }
+
+    /** 모든 시즌의 선수별 합계 (순위 계산 입력, 선수 ID 순) */
+    List<PlayerTotals> totals() {
+        Map<Long, PlayerTotals> byPlayer = new TreeMap<>();
+        for (SeasonPartition p : partitions) {
+            for (PlayerTotals t : p.totals()) {
+                byPlayer.merge(t.playerId(), t, (a, b) -> new PlayerTotals(a.playerId(), a.name(),
+                        a.goals() + b.goals(), a.assists() + b.assists(), a.appearances() + b.appearances()));
+            }
+        }
+        return List.copyOf(byPlayer.values());
+    }
+}
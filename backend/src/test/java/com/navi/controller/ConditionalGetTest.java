@@ -0,0 +1,88 @@
+package com.navi.controller;
+
+import com.navi.service.DataVersion;
+import com.navi.service.SeasonReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API 조건부 GET: ETag 로 304, 404 에는 검증 헤더 없음, Last-Modified 는 마지막 변경이 있던 초가 지난 뒤에만
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private SeasonReadModel readModel;
+
+    @BeforeEach
+    void settle() throws InterruptedException {
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void matchingETagReturnsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/home"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isEqualTo(dataVersion.stamp().eTag());
+
+        mockMvc.perform(get("/api/home").header(HttpHeaders.IF_NONE_MATCH, "\"0\", " + eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        // If-None-Match 가 있으면 If-Modified-Since 는 보지 않음
+        mockMvc.perform(get("/api/home")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 31 Dec 2100 23:59:59 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void notFoundCarriesNoValidators() throws Exception {
+        mockMvc.perform(get("/api/player/없는선수"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+        // * 로 물어도 없는 대상은 304 가 아니라 404
+        mockMvc.perform(get("/api/player/없는선수").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/home").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void lastModifiedOnlyAfterItsSecondHasPassed() throws Exception {
+        DataVersion.Stamp stamp = new DataVersion.Stamp(1, 5_500);
+        assertThat(stamp.lastModifiedSettled(5_999)).isFalse();
+        assertThat(stamp.lastModifiedSettled(6_000)).isTrue();
+
+        long wait = 1000 - dataVersion.stamp().lastModified() % 1000 + 10;
+        Thread.sleep(wait); // 마지막 변경이 있던 초가 지나도록
+        String lastModified = mockMvc.perform(get("/api/seasons"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        assertThat(lastModified).isNotNull();
+        mockMvc.perform(get("/api/seasons").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+}
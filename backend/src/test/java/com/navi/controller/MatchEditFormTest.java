@@ -0,0 +1,96 @@
+package com.navi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.navi.dto.CreateMatchRequest;
+import com.navi.dto.GoalAssistRecordItemDto;
+import com.navi.entity.Player;
+import com.navi.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 수정 폼: 등록·수정·경기 중 기록 직후(스냅샷 갱신을 기다리지 않고) 폼을 불러 저장해도 409 가 나지 않는지
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MatchEditFormTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void editFormSeesOwnWrites() throws Exception {
+        List<Player> players = playerRepository.findAll().subList(0, 2);
+        Long scorer = players.get(0).getId();
+        CreateMatchRequest req = new CreateMatchRequest();
+        req.setMatchDate(LocalDate.of(2036, 3, 1));
+        req.setOpponent("상대");
+        req.setOurScore(1);
+        req.setAttendeePlayerIds(List.of(scorer));
+        req.setGoalAssistRecords(List.of(new GoalAssistRecordItemDto(scorer, 1, 0)));
+        long id = read(mockMvc.perform(post("/api/matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())).get("id").asLong();
+
+        // 등록 직후 폼을 열어 저장
+        saveForm(id, form -> form.put("opponent", "상대 수정"));
+
+        // 수정 직후 다시 열어 저장
+        saveForm(id, form -> form.put("ourScore", 2));
+
+        // 경기 중 골 추가 직후 폼을 열면 올라간 버전과 추가된 골이 보이고, 그대로 저장됨
+        mockMvc.perform(patch("/api/matches/{id}/goal-assist/{playerId}", id, scorer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"goals\": 1, \"assists\": 0}"))
+                .andExpect(status().isOk());
+        JsonNode detail = saveForm(id, form -> form.put("opponentScore", 1));
+        assertThat(detail.get("goalAssistRecords").get(0).get("goals").asInt()).isEqualTo(2);
+        assertThat(detail.get("opponent").asText()).isEqualTo("상대 수정");
+        assertThat(detail.get("ourScore").asInt()).isEqualTo(2);
+    }
+
+    /** 폼을 불러와(GET) 값을 바꾸고 불러온 version 그대로 저장(PUT). 불러온 상세 반환 */
+    private JsonNode saveForm(long id, Consumer<ObjectNode> edit) throws Exception {
+        JsonNode detail = read(mockMvc.perform(get("/api/matches/{id}", id)).andExpect(status().isOk()));
+        ObjectNode form = detail.deepCopy();
+        form.remove("id");
+        edit.accept(form);
+        mockMvc.perform(put("/api/matches/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(form)))
+                .andExpect(status().isOk());
+        return detail;
+    }
+
+    private JsonNode read(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.navi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navi.config.HibernateRequestStats;
+import com.navi.dto.CreateMatchRequest;
+import com.navi.dto.GoalAssistRecordItemDto;
+import com.navi.entity.Player;
+import com.navi.repository.PlayerRepository;
+import com.navi.service.NaviService;
+import com.navi.service.SeasonReadModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API별 SQL 문장 수 예산 (N+1 이 생기면 빌드 실패)
+ * - 응답 캐시를 비운 상태(첫 요청)에서 요청 하나가 실행한 SQL 수를 센다 (MockMvc 는 테스트 스레드에서 실행)
+ * - 스냅샷에서 응답하는 API는 0, 경기 상세(수정 폼, DB 에서 읽음)와 변경 내역은 바뀐 경기·선수 수와 무관한 고정 개수
+ * - {season} 은 최근 시즌, {player} 는 시드된 선수, {match} 는 최근 경기, {since} 는 테스트 경기 등록 전 변경 버전
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadEndpointStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NaviService naviService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SeasonReadModel readModel;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String season;
+    private String player;
+    private String match;
+    private String since;
+
+    /** 변경 내역에 경기·출석·골/도움이 여러 건 잡히도록 경기 몇 개를 등록 */
+    @BeforeAll
+    void prepare() throws Exception {
+        JsonNode reset = objectMapper.readTree(mockMvc.perform(get("/api/changes"))
+                .andReturn().getResponse().getContentAsString());
+        since = reset.get("version").asText();
+
+        List<Player> players = playerRepository.findAll().subList(0, 4);
+        Long lastMatch = null;
+        for (int i = 0; i < 4; i++) {
+            CreateMatchRequest req = new CreateMatchRequest();
+            req.setMatchDate(LocalDate.of(2034, 4, 1).plusDays(i));
+            req.setOpponent("상대 " + i);
+            req.setOurScore(i);
+            req.setAttendeePlayerIds(players.stream().map(Player::getId).toList());
+            req.setGoalAssistRecords(List.of(
+                    new GoalAssistRecordItemDto(players.get(i).getId(), 1, 0),
+                    new GoalAssistRecordItemDto(players.get((i + 1) % 4).getId(), 0, 1)));
+            lastMatch = naviService.createMatch(req).getId();
+        }
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+        season = "2034";
+        player = players.get(0).getName();
+        match = String.valueOf(lastMatch);
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    @ParameterizedTest(name = "{0} <= {1}")
+    @CsvSource(delimiter = '|', value = {
+            "/api/home                                  | 0",
+            "/api/home?season={season}&limit=3          | 0",
+            "/api/seasons                               | 0",
+            "/api/matches                               | 0",
+            "/api/matches?season={season}&limit=2       | 0",
+            "/api/matches/{match}                       | 3",
+            "/api/goals                                 | 0",
+            "/api/goals?season={season}                 | 0",
+            "/api/assists                               | 0",
+            "/api/attendance?season={season}&limit=5    | 0",
+            "/api/player/{player}                       | 0",
+            "/api/player/{player}?season={season}       | 0",
+            "/api/players                               | 0",
+            "/api/next-matches                          | 0",
+            "/api/changes                               | 2",
+            "/api/changes?since={since}                 | 7",
+    })
+    void staysWithinStatementBudget(String uri, long budget) throws Exception {
+        String resolved = uri.replace("{season}", season)
+                .replace("{player}", player)
+                .replace("{match}", match)
+                .replace("{since}", since);
+        long before = HibernateRequestStats.count(HibernateRequestStats.QUERIES);
+        mockMvc.perform(get(resolved)).andExpect(status().isOk());
+        long statements = HibernateRequestStats.count(HibernateRequestStats.QUERIES) - before;
+        assertThat(statements).as("SQL statements for GET %s", resolved).isLessThanOrEqualTo(budget);
+    }
+}
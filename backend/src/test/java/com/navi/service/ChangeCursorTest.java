@@ -0,0 +1,94 @@
+package com.navi.service;
+
+import com.navi.dto.ChangesDto;
+import com.navi.dto.CreateMatchRequest;
+import com.navi.dto.MatchDto;
+import com.navi.dto.PlayerListItemDto;
+import com.navi.entity.ChangeLog;
+import com.navi.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증분 동기화 커서: 먼저 기록하고 늦게 커밋하는 트랜잭션(긴 CSV 재동기화 등)이 있으면
+ * 그 뒤에 커밋된 변경은 내려가되 다음 since 는 열린 기록 아래에 머무는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ChangeCursorTest {
+
+    @Autowired
+    private ChangeLogService changeLog;
+
+    @Autowired
+    private ChangeCursor cursor;
+
+    @Autowired
+    private NaviService naviService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SeasonReadModel readModel;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void cursorStaysBelowOpenTransaction() throws Exception {
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+        long before = cursor.committed();
+        Long playerId = playerRepository.findAll().get(0).getId();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<?> longTx = pool.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changeLog.record(ChangeLog.Type.PLAYER, playerId);
+            recorded.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(recorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 나중에 시작해 먼저 커밋된 쓰기: 응답에는 들어가지만 커서는 열린 기록 앞에서 멈춤
+            CreateMatchRequest req = new CreateMatchRequest();
+            req.setMatchDate(LocalDate.of(2035, 5, 1));
+            req.setOpponent("상대");
+            MatchDto created = naviService.createMatch(req);
+            assertThat(cursor.committed()).isEqualTo(before);
+            ChangesDto changes = changeLog.changesSince(before);
+            assertThat(changes.getMatches()).extracting(MatchDto::getId).contains(created.getId());
+            assertThat(changes.getVersion()).isEqualTo(before);
+            assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(changeLog.changesSince(null).getVersion()).isLessThanOrEqualTo(before);
+        } finally {
+            release.countDown();
+            longTx.get(10, TimeUnit.SECONDS);
+            pool.shutdown();
+        }
+
+        long after = cursor.committed();
+        assertThat(after).isGreaterThan(before);
+        ChangesDto changes = changeLog.changesSince(before);
+        assertThat(changes.getPlayers()).extracting(PlayerListItemDto::getId).contains(playerId);
+        assertThat(changes.getVersion()).isEqualTo(after);
+    }
+}
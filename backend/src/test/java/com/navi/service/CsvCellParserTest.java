@@ -0,0 +1,92 @@
+package com.navi.service;
+
+import com.navi.service.CsvCellParser.GoalAssist;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CsvCellParser: 기존 정규식 파서가 읽던 형식은 그대로, 달라진 동작(한 줄 골+도움, 자릿수 제한, NBSP)은 고정
+ */
+class CsvCellParserTest {
+
+    @Test
+    void parsesBaselineGoalAssistLines() {
+        assertThat(CsvCellParser.parseGoalAssists("장현규 1골\n우형오 1도움\n송민규 2골")).containsExactly(
+                new GoalAssist("장현규", 1, 0),
+                new GoalAssist("우형오", 0, 1),
+                new GoalAssist("송민규", 2, 0));
+    }
+
+    @Test
+    void handlesCrLfBlankLinesAndSpacedNames() {
+        assertThat(CsvCellParser.parseGoalAssists("  장현규 1골\r\n\r\n김 재린  3도움 \r\n")).containsExactly(
+                new GoalAssist("장현규", 1, 0),
+                new GoalAssist("김 재린", 0, 3));
+    }
+
+    @Test
+    void skipsLinesWithoutNameOrCounts() {
+        assertThat(CsvCellParser.parseGoalAssists("1골\n장현규\n장현규 0골 0도움\n장현규 골")).isEmpty();
+        assertThat(CsvCellParser.parseGoalAssists(null)).isEmpty();
+        assertThat(CsvCellParser.parseGoalAssists("")).isEmpty();
+    }
+
+    /** 예전 파서는 마지막 공백 뒤만 보고 "이름 1골" 을 이름으로 잡아 골을 잃었음 */
+    @Test
+    void readsGoalsAndAssistsOnOneLine() {
+        assertThat(CsvCellParser.parseGoalAssists("장현규 1골 1도움")).containsExactly(new GoalAssist("장현규", 1, 1));
+        assertThat(CsvCellParser.parseGoalAssists("장현규 2골1도움")).containsExactly(new GoalAssist("장현규", 2, 1));
+        assertThat(CsvCellParser.parseGoalAssists("장현규 1골 1골")).containsExactly(new GoalAssist("장현규", 2, 0));
+    }
+
+    /** 개수는 네 자리까지: 더 길면 개수 토큰이 아니라 이름의 일부로 봄 */
+    @Test
+    void limitsCountsToFourDigits() {
+        assertThat(CsvCellParser.parseGoalAssists("장현규 9999골")).containsExactly(new GoalAssist("장현규", 9999, 0));
+        assertThat(CsvCellParser.parseGoalAssists("장현규 10000골")).isEmpty();
+        assertThat(CsvCellParser.parseGoalAssists("장현규 10000골 1도움"))
+                .containsExactly(new GoalAssist("장현규 10000골", 0, 1));
+    }
+
+    /** 구글 폼에서 복사한 셀의 줄바꿈 없는 공백(NBSP)도 구분자로 봄 (예전 파서는 그 줄을 건너뜀) */
+    @Test
+    void treatsNonBreakingSpaceAsSeparator() {
+        assertThat(CsvCellParser.parseGoalAssists("장현규\u00A01골\u00A01도움"))
+                .containsExactly(new GoalAssist("장현규", 1, 1));
+    }
+
+    @Test
+    void parsesBaselineDateFormats() {
+        assertThat(CsvCellParser.parseDate("2026. 1. 18")).isEqualTo(LocalDate.of(2026, 1, 18));
+        assertThat(CsvCellParser.parseDate("2026.2.15")).isEqualTo(LocalDate.of(2026, 2, 15));
+        assertThat(CsvCellParser.parseDate(" 2026. 12. 5 ")).isEqualTo(LocalDate.of(2026, 12, 5));
+        assertThat(CsvCellParser.parseDate("2026.\u00A03.\u00A01")).isEqualTo(LocalDate.of(2026, 3, 1)); // NBSP
+    }
+
+    @Test
+    void rejectsMalformedOrImpossibleDates() {
+        assertThat(CsvCellParser.parseDate(null)).isNull();
+        assertThat(CsvCellParser.parseDate("")).isNull();
+        assertThat(CsvCellParser.parseDate("2026.2.30")).isNull();
+        assertThat(CsvCellParser.parseDate("2026-02-15")).isNull();
+        assertThat(CsvCellParser.parseDate("2026.2")).isNull();
+        assertThat(CsvCellParser.parseDate("2026.2.15.1")).isNull();
+        assertThat(CsvCellParser.parseDate("20260.2.15")).isNull();
+        assertThat(CsvCellParser.parseDate("2026.1 2.15")).isNull();
+        assertThat(CsvCellParser.parseDate("2026.2.15 오후")).isNull();
+    }
+
+    @Test
+    void parsesIntegersIgnoringUnits() {
+        assertThat(CsvCellParser.parseInt("3", 0)).isEqualTo(3);
+        assertThat(CsvCellParser.parseInt("3명", 0)).isEqualTo(3);
+        assertThat(CsvCellParser.parseInt("-2", 0)).isEqualTo(-2);
+        assertThat(CsvCellParser.parseInt("", 7)).isEqualTo(7);
+        assertThat(CsvCellParser.parseInt(null, 7)).isEqualTo(7);
+        assertThat(CsvCellParser.parseInt("1-2", 7)).isEqualTo(7);
+        assertThat(CsvCellParser.parseInt("99999999999", 7)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,61 @@
+package com.navi.service;
+
+import com.navi.entity.Match;
+import com.navi.repository.MatchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 재동기화: 키 없는 경기와 경기일·상대팀이 같은 CSV 행은 출처에 따라 키를 붙이거나 충돌로 보고
+ * (기동 시 시드된 CSV 경기 하나의 키를 떼어 "키 도입 전 경기"·"관리자 등록 경기"를 흉내 냄)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CsvSyncTest {
+
+    @Autowired
+    private CsvSeedService csvSeedService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void keepsAdminMatchAndReportsConflictButAdoptsCsvMatch() {
+        Match seeded = matchRepository.findBySourceKeyIsNotNull().get(0);
+        String key = seeded.getSourceKey();
+        int ourScore = seeded.getOurScore();
+
+        // 관리자가 같은 날 같은 상대로 점수를 다르게 등록한 경기: 그대로 두고 CSV 행도 넣지 않음
+        seeded.setSourceKey(null);
+        seeded.setSource(Match.Source.ADMIN);
+        seeded.setOurScore(ourScore + 5);
+        matchRepository.save(seeded);
+        SyncReport report = csvSeedService.syncFromCsv();
+        assertThat(report.done()).isTrue();
+        assertThat(report.conflicts()).containsExactly(seeded.getId());
+        assertThat(report.inserted()).isZero();
+        Match kept = matchRepository.findById(seeded.getId()).orElseThrow();
+        assertThat(kept.getSourceKey()).isNull();
+        assertThat(kept.getSource()).isEqualTo(Match.Source.ADMIN);
+        assertThat(kept.getOurScore()).isEqualTo(ourScore + 5);
+
+        // 출처 기록 전 경기는 점수·결과가 같을 때만 키를 붙임
+        kept.setSource(null);
+        matchRepository.save(kept);
+        assertThat(csvSeedService.syncFromCsv().conflicts()).containsExactly(seeded.getId());
+
+        kept = matchRepository.findById(seeded.getId()).orElseThrow();
+        kept.setOurScore(ourScore);
+        matchRepository.save(kept);
+        report = csvSeedService.syncFromCsv();
+        assertThat(report.conflicts()).isEmpty();
+        assertThat(report.inserted()).isZero();
+        Match adopted = matchRepository.findById(seeded.getId()).orElseThrow();
+        assertThat(adopted.getSourceKey()).isEqualTo(key);
+        assertThat(adopted.getSource()).isEqualTo(Match.Source.CSV);
+    }
+}
@@ -0,0 +1,68 @@
+package com.navi.service;
+
+import jdk.jfr.EventType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JFR 녹화: 토큰 확인, 동시 녹화 거절, 내려주는 파일에는 Navi·CPU·GC·할당 이벤트만 남는지
+ */
+class FlightRecorderServiceTest {
+
+    private final FlightRecorderService service = new FlightRecorderService("secret");
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void requiresConfiguredToken() {
+        assertThat(service.authorized("secret")).isTrue();
+        assertThat(service.authorized("wrong")).isFalse();
+        assertThat(service.authorized(null)).isFalse();
+        assertThat(new FlightRecorderService("").authorized("")).isFalse();
+    }
+
+    @Test
+    void recordsOnlyAllowedEventsAndRejectsOverlap() throws Exception {
+        CompletableFuture<byte[]> recording = service.start(1, false);
+        assertThatThrownBy(() -> service.start(1, false)).isInstanceOf(IllegalStateException.class);
+        JfrEvents.Home event = new JfrEvents.Home();
+        event.begin();
+        event.season = "test";
+        event.commit();
+
+        byte[] bytes = recording.get(30, TimeUnit.SECONDS);
+        Path file = Files.createTempFile("navi-test-", ".jfr");
+        try {
+            Files.write(file, bytes);
+            List<String> names = RecordingFile.readAllEvents(file).stream()
+                    .map(RecordedEvent::getEventType)
+                    .map(EventType::getName)
+                    .distinct()
+                    .toList();
+            assertThat(names).contains("com.navi.Home");
+            assertThat(names).allMatch(name -> name.startsWith("com.navi.") || List.of(
+                    "jdk.ExecutionSample", "jdk.CPULoad", "jdk.ThreadCPULoad", "jdk.GarbageCollection",
+                    "jdk.YoungGarbageCollection", "jdk.OldGarbageCollection", "jdk.GCPhasePause",
+                    "jdk.GCHeapSummary", "jdk.ObjectAllocationSample").contains(name));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // 끝난 뒤에는 다시 녹화할 수 있음
+        service.start(1, false).get(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.navi.service;
+
+import com.navi.config.HibernateRequestStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홈 화면 SQL 문장 수 고정
+ * - 응답은 스냅샷에서 조립하므로 요청 스레드의 SQL 은 0개
+ * - 스냅샷의 시즌 조각 갱신(순위는 선수별 합계 GROUP BY 한 번)은 선수·경기 수와 무관하게 정해진 개수
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HomeStatementCountTest {
+
+    /** 시즌 조각 5개(전적, 경기, 출석, 골/도움, 선수별 합계) + 다음 경기 + 선수 목록 */
+    private static final long SEASON_REFRESH_STATEMENTS = 7;
+
+    @Autowired
+    private NaviService naviService;
+
+    @Autowired
+    private SeasonReadModel readModel;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void settle() throws InterruptedException {
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    @Test
+    void homeRunsNoStatements() {
+        int season = readModel.seasons().get(0).getSeasonYear();
+        long before = HibernateRequestStats.count(HibernateRequestStats.QUERIES);
+        naviService.getHome(null, null);
+        naviService.getHome(season, null);
+        naviService.getHome(season, 3);
+        assertThat(HibernateRequestStats.count(HibernateRequestStats.QUERIES) - before).isZero();
+    }
+
+    @Test
+    void seasonRefreshRunsFixedStatements() throws InterruptedException {
+        int season = readModel.seasons().get(0).getSeasonYear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        eventPublisher.publishEvent(SeasonDataChangedEvent.seasons("test", season));
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SEASON_REFRESH_STATEMENTS);
+    }
+}
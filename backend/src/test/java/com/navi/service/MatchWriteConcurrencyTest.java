@@ -0,0 +1,128 @@
+package com.navi.service;
+
+import com.navi.dto.CreateMatchRequest;
+import com.navi.dto.GoalAssistRecordItemDto;
+import com.navi.dto.MatchDto;
+import com.navi.entity.Player;
+import com.navi.entity.PlayerSeasonStats;
+import com.navi.entity.SeasonStats;
+import com.navi.repository.PlayerRepository;
+import com.navi.repository.PlayerSeasonStatsRepository;
+import com.navi.repository.SeasonStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 경기 저장 동시성: 동시에 들어온 등록이 시즌 전적·선수별 누적에서 유실되지 않는지, 오래된 버전의 수정이 거절되는지
+ * (시드 데이터와 겹치지 않도록 테스트마다 데이터가 없는 시즌을 씀)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchWriteConcurrencyTest {
+
+    private static final int MATCHES = 24;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private NaviService naviService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SeasonStatsRepository seasonStatsRepository;
+
+    @Autowired
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Test
+    void parallelCreateMatchKeepsSeasonAndPlayerTotals() throws Exception {
+        int year = 2031;
+        List<Player> players = playerRepository.findAll().subList(0, 3);
+        Long scorer = players.get(0).getId();
+        Long assister = players.get(1).getId();
+        Long attendee = players.get(2).getId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<MatchDto>> futures = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                return naviService.createMatch(request(year, n, scorer, assister, attendee));
+            }));
+        }
+        start.countDown();
+        for (Future<MatchDto> f : futures) f.get();
+        pool.shutdown();
+
+        SeasonStats season = seasonStatsRepository.findBySeasonYear(year).orElseThrow();
+        assertThat(season.getTotalMatches()).isEqualTo(MATCHES);
+        assertThat(season.getWins()).isEqualTo(MATCHES / 3);
+        assertThat(season.getDraws()).isEqualTo(MATCHES / 3);
+        assertThat(season.getLosses()).isEqualTo(MATCHES / 3);
+
+        Map<Long, PlayerSeasonStats> stats = playerSeasonStatsRepository
+                .findBySeasonYearAndPlayerIdIn(year, List.of(scorer, assister, attendee)).stream()
+                .collect(Collectors.toMap(pss -> pss.getPlayer().getId(), Function.identity()));
+        assertThat(stats.get(scorer).getGoals()).isEqualTo(MATCHES);
+        assertThat(stats.get(scorer).getAppearances()).isEqualTo(MATCHES);
+        assertThat(stats.get(assister).getAssists()).isEqualTo(MATCHES);
+        assertThat(stats.get(assister).getAppearances()).isEqualTo(MATCHES);
+        assertThat(stats.get(attendee).getGoals()).isZero();
+        assertThat(stats.get(attendee).getAppearances()).isEqualTo(MATCHES);
+    }
+
+    @Test
+    void updateWithStaleVersionIsRejected() {
+        int year = 2032;
+        List<Player> players = playerRepository.findAll().subList(0, 3);
+        Long scorer = players.get(0).getId();
+        CreateMatchRequest req = request(year, 0, scorer, players.get(1).getId(), players.get(2).getId());
+        MatchDto created = naviService.createMatch(req);
+
+        // 폼을 연 뒤 경기 중 골이 추가되면 경기 버전이 올라가 예전 버전으로는 저장할 수 없음
+        naviService.addGoalAssist(created.getId(), scorer, 1, 0);
+        req.setVersion(created.getVersion());
+        assertThatThrownBy(() -> naviService.updateMatch(created.getId(), req))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        req.setVersion(created.getVersion() + 1);
+        req.setAttendeePlayerIds(List.of(scorer));
+        MatchDto updated = naviService.updateMatch(created.getId(), req);
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 2);
+    }
+
+    /** n 번째 경기: 승·무·패를 번갈아, 득점자 1골·도움 1개, 세 명 참석 */
+    private static CreateMatchRequest request(int year, int n, Long scorer, Long assister, Long attendee) {
+        int[][] scores = {{2, 1}, {1, 1}, {0, 1}};
+        CreateMatchRequest req = new CreateMatchRequest();
+        req.setMatchDate(LocalDate.of(year, 1, 1).plusDays(n));
+        req.setOpponent("상대 " + n);
+        req.setOurScore(scores[n % 3][0]);
+        req.setOpponentScore(scores[n % 3][1]);
+        req.setAttendeePlayerIds(List.of(scorer, assister, attendee));
+        req.setGoalAssistRecords(List.of(
+                new GoalAssistRecordItemDto(scorer, 1, 0),
+                new GoalAssistRecordItemDto(assister, 0, 1)));
+        return req;
+    }
+}
@@ -0,0 +1,56 @@
+package com.navi.service;
+
+import com.navi.dto.CreateMatchRequest;
+import com.navi.dto.MatchDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 갱신: 쓰기 커밋 후 갱신 스레드에서 바뀐 시즌이 반영되고, 데이터 버전은 교체 이후에 오르는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeasonReadModelTest {
+
+    @Autowired
+    private NaviService naviService;
+
+    @Autowired
+    private SeasonReadModel readModel;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Test
+    void commitsAreCoalescedIntoRefreshedSnapshot() throws Exception {
+        int year = 2033;
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+        long versionBefore = dataVersion.current();
+
+        List<MatchDto> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CreateMatchRequest req = new CreateMatchRequest();
+            req.setMatchDate(LocalDate.of(year, 3, 1).plusDays(i));
+            req.setOpponent("상대 " + i);
+            req.setOurScore(1);
+            created.add(naviService.createMatch(req));
+        }
+        assertThat(readModel.awaitRefresh(10, TimeUnit.SECONDS)).isTrue();
+
+        SeasonSnapshot season = readModel.season(year);
+        assertThat(season.getMatches()).extracting(MatchDto::getId)
+                .containsExactlyInAnyOrderElementsOf(created.stream().map(MatchDto::getId).toList());
+        assertThat(season.getSeasonStats().getWins()).isEqualTo(5);
+        // 스냅샷이 교체된 횟수만큼만 오름 (커밋 5번이 갱신 중에 몰리면 한 번에 반영될 수 있음)
+        assertThat(dataVersion.current()).isGreaterThan(versionBefore).isLessThanOrEqualTo(versionBefore + 5);
+    }
+}
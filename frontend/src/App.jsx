@@ -1,6 +1,6 @@
-import { useState, useEffect } from 'react'
+import { useState, useEffect, useCallback, useRef } from 'react'
 import { Routes, Route, useLocation, Navigate } from 'react-router-dom'
-import { fetchHome, fetchMatches, fetchGoalLogs, fetchAttendanceLogs } from './api'
+import { fetchHome, fetchMatches, fetchGoalLogs, fetchAttendanceLogs, fetchChanges, subscribeStream } from './api'
 import Header from './components/Header'
 import Home from './pages/Home'
 import PlayerDetail from './pages/PlayerDetail'
@@ -10,6 +10,40 @@ import Attendance from './pages/Attendance'
 import Admin from './pages/Admin'
 import AdminMatchEdit from './pages/AdminMatchEdit'
 
+const RANKING_KEYS = { goal: 'goalRanking', assist: 'assistRanking', attendance: 'attendanceRanking' }
+
+/** 순위 변경분(바뀐 선수, 빠진 선수)을 홈 데이터 순위에 반영 */
+function applyRankingDeltas(home, deltas) {
+  const next = { ...home }
+  deltas.forEach(({ kind, changed, removed }) => {
+    const key = RANKING_KEYS[kind]
+    if (!key || !next[key]) return
+    const replaced = new Set([...removed, ...changed.map((r) => r.playerName)])
+    next[key] = [...next[key].filter((r) => !replaced.has(r.playerName)), ...changed]
+      .sort((a, b) => a.rank - b.rank)
+  })
+  return next
+}
+
+/** 경기 목록에 등록·수정된 경기 반영 (경기일·ID 내림차순 유지) */
+function upsertMatch(list, match) {
+  return [match, ...list.filter((m) => m.id !== match.id)]
+    .sort((a, b) => (a.matchDate === b.matchDate ? b.id - a.id : a.matchDate < b.matchDate ? 1 : -1))
+}
+
+/** 증분 동기화 응답의 경기 변경(삭제·등록·수정) 반영 */
+function applyMatchChanges(list, { matches, deletedMatchIds }) {
+  const deleted = new Set(deletedMatchIds)
+  return matches.reduce(upsertMatch, list.filter((m) => !deleted.has(m.id)))
+}
+
+/** 출석·골/도움 로그에서 주어진 경기 항목을 통째로 교체 (경기일·경기 ID 내림차순, 경기 안 순서는 유지) */
+function replaceByMatch(list, matchIds, entries) {
+  const replaced = new Set(matchIds)
+  return [...list.filter((e) => !replaced.has(e.matchId)), ...entries]
+    .sort((a, b) => (a.matchDate === b.matchDate ? b.matchId - a.matchId : a.matchDate < b.matchDate ? 1 : -1))
+}
+
 function App() {
   const [homeData, setHomeData] = useState(null)
   const [matches, setMatches] = useState([])
@@ -21,6 +55,9 @@ function App() {
   const isAdminPage = location.pathname.startsWith('/admin')
   // /admin 하위 경로 직접 접근 시 /admin으로 리다이렉트 (경기 수정 등은 Admin 내부에서 처리)
   const isAdminSubPage = isAdminPage && location.pathname !== '/admin'
+  // 증분 동기화 기준 버전 (null 이면 동기화 안 함), 동기화 요청은 한 번에 하나씩 차례로
+  const versionRef = useRef(null)
+  const syncRef = useRef(Promise.resolve())
 
   useEffect(() => {
     let cancelled = false
@@ -28,6 +65,8 @@ function App() {
       setLoading(true)
       setError(null)
       try {
+        // 전체 목록보다 먼저 버전을 잡아 두어야 그 사이 변경을 다음 동기화에서 받음
+        const changes = await fetchChanges().catch(() => null)
         const [home, matchesRes, goalsRes, attendanceRes] = await Promise.all([
           fetchHome(),
           fetchMatches(),
@@ -39,6 +78,7 @@ function App() {
           setMatches(matchesRes)
           setGoalLogs(goalsRes)
           setAttendanceLogs(attendanceRes)
+          versionRef.current = changes ? changes.version : null
         }
       } catch (e) {
         if (!cancelled) setError(e.message)
@@ -50,15 +90,54 @@ function App() {
     return () => { cancelled = true }
   }, [])
 
-  // 홈 화면 진입 시마다 홈 데이터 재요청 (선수 명단 툴팁 등 최신 반영)
+  // 로컬 사본 증분 동기화: 바뀐 경기·출석·골/도움만 받아 반영 (reset 이면 전체 목록 다시 받기)
+  const syncChanges = useCallback(() => {
+    syncRef.current = syncRef.current.then(async () => {
+      if (versionRef.current == null) return
+      const changes = await fetchChanges(versionRef.current)
+      if (changes.reset) {
+        const [matchesRes, goalsRes, attendanceRes] = await Promise.all([
+          fetchMatches(),
+          fetchGoalLogs(),
+          fetchAttendanceLogs(),
+        ])
+        setMatches(matchesRes)
+        setGoalLogs(goalsRes)
+        setAttendanceLogs(attendanceRes)
+      } else {
+        setMatches((list) => applyMatchChanges(list, changes))
+        setGoalLogs((list) => replaceByMatch(list, changes.goalAssistMatchIds, changes.goalLogs))
+        setAttendanceLogs((list) => replaceByMatch(list, changes.attendanceMatchIds, changes.attendanceLogs))
+      }
+      versionRef.current = changes.version
+    }).catch(() => {})
+  }, [])
+
+  // 홈 화면 진입 시마다 홈 데이터 재요청 (선수 명단 툴팁 등 최신 반영), 목록은 증분 동기화
   useEffect(() => {
     if (location.pathname !== '/home') return
+    syncChanges()
     let cancelled = false
     fetchHome()
       .then((home) => { if (!cancelled) setHomeData(home) })
       .catch(() => {})
     return () => { cancelled = true }
-  }, [location.pathname])
+  }, [location.pathname, syncChanges])
+
+  // 실시간 스트림: 순위 변경분과 경기 등록·수정·삭제를 전체 재요청 없이 반영, 출석·골/도움 로그는 증분 동기화
+  useEffect(() => subscribeStream({
+    ranking: (deltas) => setHomeData((home) => (home ? applyRankingDeltas(home, deltas) : home)),
+    'match-created': (match) => { setMatches((list) => upsertMatch(list, match)); syncChanges() },
+    'match-updated': (match) => { setMatches((list) => upsertMatch(list, match)); syncChanges() },
+    'match-deleted': ({ matchId }) => { setMatches((list) => list.filter((m) => m.id !== matchId)); syncChanges() },
+    'season-deleted': syncChanges,
+    attendance: syncChanges,
+    'goal-assist': syncChanges,
+    reconnected: () => {
+      syncChanges()
+      fetchHome().then(setHomeData).catch(() => {})
+    },
+  }), [syncChanges])
 
   // 관리 페이지: /admin 만 허용, 하위 경로는 /admin으로 리다이렉트
   if (isAdminSubPage) {
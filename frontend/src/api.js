@@ -77,9 +77,9 @@ export async function createMatch(body) {
   return res.json();
 }
 
-/** 경기 상세 (수정 폼용) */
+/** 경기 상세 (수정 폼용, 저장 시 보낼 version 이 최신이도록 브라우저 캐시를 쓰지 않음) */
 export async function fetchMatchDetail(matchId) {
-  const res = await fetch(`${API_BASE}/matches/${matchId}`);
+  const res = await fetch(`${API_BASE}/matches/${matchId}`, { cache: 'no-store' });
   if (!res.ok) {
     if (res.status === 404) return null;
     throw new Error('경기 정보 로드 실패');
@@ -152,3 +152,34 @@ export async function deleteNextMatch(id) {
   const res = await fetch(`${API_BASE}/next-matches/${id}`, { method: 'DELETE' });
   if (!res.ok) throw new Error('다음 경기 삭제 실패');
 }
+
+/**
+ * since 버전 이후 바뀐 경기·출석·골/도움·선수·다음 경기만 (since 생략 시 reset 과 현재 버전만)
+ * reset 이면 전체 목록을 다시 받고, 응답의 version 을 다음 since 로 사용
+ */
+export async function fetchChanges(since) {
+  const query = since != null ? `?since=${since}` : '';
+  const res = await fetch(`${API_BASE}/changes${query}`);
+  if (!res.ok) throw new Error('변경 내역 로드 실패');
+  return res.json();
+}
+
+/**
+ * 실시간 변경 스트림 구독 (SSE). handlers: { 이벤트 이름: (data) => void }
+ * 이벤트: match-created, match-updated, match-deleted, season-deleted, attendance, goal-assist, ranking
+ * 연결이 끊기면 브라우저가 자동으로 다시 연결 (서버가 밀린 구독자를 끊은 경우 포함).
+ * reconnected: 다시 연결된 뒤 호출 (끊긴 사이 놓친 이벤트는 증분 동기화로 따라잡기). 반환한 함수로 구독 해제
+ */
+export function subscribeStream({ reconnected, ...handlers }) {
+  if (typeof EventSource === 'undefined') return () => {}
+  const source = new EventSource(`${API_BASE}/stream`)
+  let opened = false
+  source.addEventListener('open', () => {
+    if (opened && reconnected) reconnected()
+    opened = true
+  })
+  Object.entries(handlers).forEach(([name, handler]) => {
+    source.addEventListener(name, (e) => handler(JSON.parse(e.data)))
+  })
+  return () => source.close()
+}
@@ -20,6 +20,7 @@ function AdminMatchEdit({ matchId, onBack }) {
   const [opponentScore, setOpponentScore] = useState('')
   const [attendeeIds, setAttendeeIds] = useState([])
   const [goalAssistRows, setGoalAssistRows] = useState([{ playerId: '', goals: 0, assists: 0 }])
+  const [version, setVersion] = useState(null) // 불러온 시점의 경기 버전 (동시 수정 확인용)
   const [submitStatus, setSubmitStatus] = useState(null) // 'saving' | 'ok' | { error }
 
   // DB에서 선수 목록 + 해당 경기 상세 불러와 폼에 채우기
@@ -47,6 +48,7 @@ function AdminMatchEdit({ matchId, onBack }) {
         setOurScore(detail.ourScore ?? '')
         setOpponentScore(detail.opponentScore ?? '')
         setAttendeeIds(detail.attendeePlayerIds || [])
+        setVersion(detail.version ?? null)
         const rows = (detail.goalAssistRecords || []).map((r) => ({
           playerId: r.playerId,
           goals: r.goals ?? 0,
@@ -107,6 +109,7 @@ function AdminMatchEdit({ matchId, onBack }) {
         opponentScore: Number(opponentScore) || 0,
         attendeePlayerIds: attendeeIds.map((id) => Number(id)).filter((n) => Number.isInteger(n) && n > 0),
         goalAssistRecords,
+        version,
       }
       await updateMatch(Number(matchId), body)
       setSubmitStatus('ok')